@@ -0,0 +1,172 @@
+package com.disasterawareness.controller;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.servlet.ServletException;
+import javax.servlet.annotation.WebServlet;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import com.disasterawareness.model.Content;
+import com.disasterawareness.model.ImportReport;
+import com.disasterawareness.model.Kit;
+import com.disasterawareness.service.ContentService;
+import com.disasterawareness.service.ImportService;
+import com.disasterawareness.service.KitService;
+import com.disasterawareness.utils.ApiRoutes;
+import com.disasterawareness.utils.JsonCodec;
+import com.disasterawareness.utils.JsonRecordReader;
+import com.disasterawareness.utils.RouteMatch;
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+
+@WebServlet("/api/admin/import/*")
+public class AdminImportServlet extends HttpServlet {
+    private final ImportService importService;
+    private final KitService kitService;
+    private final ContentService contentService;
+    private final Gson gson;
+
+    public AdminImportServlet() {
+        this.kitService = new KitService();
+        this.contentService = new ContentService();
+        this.importService = new ImportService(kitService, contentService);
+        this.gson = JsonCodec.gson();
+    }
+
+    @Override
+    protected void doPost(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+        response.setContentType("application/json");
+        response.setCharacterEncoding("UTF-8");
+
+        RouteMatch route = ApiRoutes.match(request);
+
+        try {
+            int batchSize = request.getParameter("batchSize") != null
+                    ? Integer.parseInt(request.getParameter("batchSize"))
+                    : ImportService.DEFAULT_BATCH_SIZE;
+
+            ImportReport report;
+            if (route != null && route.is(ApiRoutes.ADMIN_IMPORT_KITS)) {
+                report = importKits(request, batchSize);
+            } else if (route != null && route.is(ApiRoutes.ADMIN_IMPORT_CONTENT)) {
+                report = importContents(request, batchSize);
+            } else {
+                response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+                JsonCodec.write(response, new ErrorResponse("Tipo de importação desconhecido."));
+                return;
+            }
+
+            response.setStatus(HttpServletResponse.SC_OK);
+            JsonCodec.write(response, report);
+
+        } catch (NumberFormatException e) {
+            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            JsonCodec.write(response, new ErrorResponse("Tamanho de lote inválido."));
+        } catch (JsonParseException e) {
+            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            JsonCodec.write(response, new ErrorResponse("JSON inválido: " + e.getMessage()));
+        } catch (IllegalArgumentException e) {
+            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            JsonCodec.write(response, new ErrorResponse(e.getMessage()));
+        } catch (SQLException e) {
+            response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+            JsonCodec.write(response, new ErrorResponse("Erro ao importar registros: " + e.getMessage()));
+        }
+    }
+
+    private ImportReport importKits(HttpServletRequest request, int batchSize) throws IOException, SQLException {
+        Long adminUserId = (Long) request.getAttribute("userId");
+        ImportReport report = new ImportReport();
+        List<Kit> kits = new ArrayList<>();
+        List<ImportReport.RowResult> results = new ArrayList<>();
+
+        JsonRecordReader records = new JsonRecordReader(request.getReader());
+        JsonElement record;
+        int row = 0;
+        while ((record = records.next()) != null) {
+            row++;
+            try {
+                JsonObject json = asObject(record);
+                kits.add(kitService.prepareKit(
+                        string(json, "houseType"),
+                        json.has("numResidents") ? json.get("numResidents").getAsInt() : 0,
+                        bool(json, "hasChildren"),
+                        bool(json, "hasElderly"),
+                        bool(json, "hasPets"),
+                        string(json, "region"),
+                        bool(json, "isCustom"),
+                        string(json, "recommendedItems"),
+                        json.has("userId") ? json.get("userId").getAsLong() : adminUserId));
+                results.add(report.accept(row));
+            } catch (IllegalArgumentException | IllegalStateException | UnsupportedOperationException e) {
+                report.reject(row, e.getMessage());
+            }
+        }
+
+        importService.importKits(kits, batchSize);
+        for (int i = 0; i < kits.size(); i++) {
+            results.get(i).setId(kits.get(i).getKitId());
+        }
+        return report;
+    }
+
+    private ImportReport importContents(HttpServletRequest request, int batchSize) throws IOException, SQLException {
+        ImportReport report = new ImportReport();
+        List<Content> contents = new ArrayList<>();
+        List<ImportReport.RowResult> results = new ArrayList<>();
+
+        JsonRecordReader records = new JsonRecordReader(request.getReader());
+        JsonElement record;
+        int row = 0;
+        while ((record = records.next()) != null) {
+            row++;
+            try {
+                JsonObject json = asObject(record);
+                Content content = new Content(string(json, "disasterType"), string(json, "title"),
+                        string(json, "description"), string(json, "videoUrl"));
+                contentService.validateContent(content);
+                contents.add(content);
+                results.add(report.accept(row));
+            } catch (IllegalArgumentException | IllegalStateException | UnsupportedOperationException e) {
+                report.reject(row, e.getMessage());
+            }
+        }
+
+        importService.importContents(contents, batchSize);
+        for (int i = 0; i < contents.size(); i++) {
+            results.get(i).setId(contents.get(i).getContentId());
+        }
+        return report;
+    }
+
+    private static JsonObject asObject(JsonElement record) {
+        if (!record.isJsonObject()) {
+            throw new IllegalArgumentException("Registro deve ser um objeto JSON.");
+        }
+        return record.getAsJsonObject();
+    }
+
+    private static String string(JsonObject json, String field) {
+        return json.has(field) && !json.get(field).isJsonNull() ? json.get(field).getAsString() : null;
+    }
+
+    private static boolean bool(JsonObject json, String field) {
+        return json.has(field) && !json.get(field).isJsonNull() && json.get(field).getAsBoolean();
+    }
+
+    private static class ErrorResponse {
+        private final String error;
+
+        public ErrorResponse(String error) {
+            this.error = error;
+        }
+    }
+}
@@ -2,7 +2,6 @@ package com.disasterawareness.controller;
 
 import java.io.IOException;
 import java.sql.SQLException;
-import java.util.List;
 
 import javax.servlet.ServletException;
 import javax.servlet.annotation.WebServlet;
@@ -12,6 +11,11 @@ import javax.servlet.http.HttpServletResponse;
 
 import com.disasterawareness.model.User;
 import com.disasterawareness.service.UserService;
+import com.disasterawareness.utils.ApiRoutes;
+import com.disasterawareness.utils.JsonArrayWriter;
+import com.disasterawareness.utils.JsonCodec;
+import com.disasterawareness.utils.PageRequest;
+import com.disasterawareness.utils.RouteMatch;
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 
@@ -22,7 +26,7 @@ public class AdminUserServlet extends HttpServlet {
 
     public AdminUserServlet() {
         this.userService = new UserService();
-        this.gson = new Gson();
+        this.gson = JsonCodec.gson();
     }
 
     @Override
@@ -32,30 +36,30 @@ public class AdminUserServlet extends HttpServlet {
         response.setCharacterEncoding("UTF-8");
 
         try {
-            String pathInfo = request.getPathInfo();
-            if (pathInfo == null || pathInfo.equals("/")) {
-                List<User> users = userService.getAllUsers();
+            RouteMatch route = ApiRoutes.match(request);
+            if (route == null || !(route.is(ApiRoutes.ADMIN_USER_LIST) || route.is(ApiRoutes.ADMIN_USER_GET))) {
+                response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+                JsonCodec.write(response, new ErrorResponse("ID de usuário inválido"));
+            } else if (route.is(ApiRoutes.ADMIN_USER_LIST)) {
+                PageRequest pageRequest = PageRequest.from(request);
                 response.setStatus(HttpServletResponse.SC_OK);
-                response.getWriter().write(gson.toJson(users));
-            } else {
-                String[] splits = pathInfo.split("/");
-                if (splits.length != 2) {
-                    response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-                    response.getWriter().write(gson.toJson(new ErrorResponse("ID de usuário inválido")));
-                    return;
+                if (pageRequest != null) {
+                    JsonCodec.write(response, userService.getUserPage(pageRequest));
+                } else {
+                    JsonArrayWriter.write(response, gson, User.class, userService::streamAllUsers);
                 }
-
-                Long userId = Long.parseLong(splits[1]);
+            } else {
+                Long userId = route.getLong("id");
                 User user = userService.getUserById(userId);
                 response.setStatus(HttpServletResponse.SC_OK);
-                response.getWriter().write(gson.toJson(user));
+                JsonCodec.write(response, user);
             }
         } catch (IllegalArgumentException e) {
             response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-            response.getWriter().write(gson.toJson(new ErrorResponse(e.getMessage())));
+            JsonCodec.write(response, new ErrorResponse(e.getMessage()));
         } catch (SQLException e) {
             response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
-            response.getWriter().write(gson.toJson(new ErrorResponse("Erro ao devolver usuários: " + e.getMessage())));
+            JsonCodec.write(response, new ErrorResponse("Erro ao devolver usuários: " + e.getMessage()));
         }
     }
 
@@ -69,24 +73,24 @@ public class AdminUserServlet extends HttpServlet {
             String pathInfo = request.getPathInfo();
             if (pathInfo == null || pathInfo.equals("/")) {
                 response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-                response.getWriter().write(gson.toJson(new ErrorResponse("ID de usuário é obrigatório")));
+                JsonCodec.write(response, new ErrorResponse("ID de usuário é obrigatório"));
                 return;
             }
 
-            String[] splits = pathInfo.split("/");
-            if (splits.length != 2) {
+            RouteMatch route = ApiRoutes.match(request);
+            if (route == null || !route.is(ApiRoutes.ADMIN_USER_UPDATE)) {
                 response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-                response.getWriter().write(gson.toJson(new ErrorResponse("ID de usuário inválido")));
+                JsonCodec.write(response, new ErrorResponse("ID de usuário inválido"));
                 return;
             }
 
-            Long userId = Long.parseLong(splits[1]);
+            Long userId = route.getLong("id");
             JsonObject jsonRequest = gson.fromJson(request.getReader(), JsonObject.class);
 
             User user = userService.getUserById(userId);
             if (user == null) {
                 response.setStatus(HttpServletResponse.SC_NOT_FOUND);
-                response.getWriter().write(gson.toJson(new ErrorResponse("Usuário não encontrado")));
+                JsonCodec.write(response, new ErrorResponse("Usuário não encontrado"));
                 return;
             }
 
@@ -102,14 +106,14 @@ public class AdminUserServlet extends HttpServlet {
 
             User updatedUser = userService.updateUser(user);
             response.setStatus(HttpServletResponse.SC_OK);
-            response.getWriter().write(gson.toJson(updatedUser));
+            JsonCodec.write(response, updatedUser);
 
         } catch (IllegalArgumentException e) {
             response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-            response.getWriter().write(gson.toJson(new ErrorResponse(e.getMessage())));
+            JsonCodec.write(response, new ErrorResponse(e.getMessage()));
         } catch (SQLException e) {
             response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
-            response.getWriter().write(gson.toJson(new ErrorResponse("Erro ao atualizar usuário: " + e.getMessage())));
+            JsonCodec.write(response, new ErrorResponse("Erro ao atualizar usuário: " + e.getMessage()));
         }
     }
 
@@ -123,34 +127,34 @@ public class AdminUserServlet extends HttpServlet {
             String pathInfo = request.getPathInfo();
             if (pathInfo == null || pathInfo.equals("/")) {
                 response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-                response.getWriter().write(gson.toJson(new ErrorResponse("ID de usuário é obrigatório")));
+                JsonCodec.write(response, new ErrorResponse("ID de usuário é obrigatório"));
                 return;
             }
 
-            String[] splits = pathInfo.split("/");
-            if (splits.length != 2) {
+            RouteMatch route = ApiRoutes.match(request);
+            if (route == null || !route.is(ApiRoutes.ADMIN_USER_DELETE)) {
                 response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-                response.getWriter().write(gson.toJson(new ErrorResponse("ID de usuário inválido")));
+                JsonCodec.write(response, new ErrorResponse("ID de usuário inválido"));
                 return;
             }
 
-            Long userId = Long.parseLong(splits[1]);
+            Long userId = route.getLong("id");
             boolean deleted = userService.deleteUser(userId);
 
             if (deleted) {
                 response.setStatus(HttpServletResponse.SC_OK);
-                response.getWriter().write(gson.toJson(new SuccessResponse("Usuário deletado com sucesso")));
+                JsonCodec.write(response, new SuccessResponse("Usuário deletado com sucesso"));
             } else {
                 response.setStatus(HttpServletResponse.SC_NOT_FOUND);
-                response.getWriter().write(gson.toJson(new ErrorResponse("Usuário não encontrado")));
+                JsonCodec.write(response, new ErrorResponse("Usuário não encontrado"));
             }
 
         } catch (IllegalArgumentException e) {
             response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-            response.getWriter().write(gson.toJson(new ErrorResponse(e.getMessage())));
+            JsonCodec.write(response, new ErrorResponse(e.getMessage()));
         } catch (SQLException e) {
             response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
-            response.getWriter().write(gson.toJson(new ErrorResponse("Erro ao deletar usuário: " + e.getMessage())));
+            JsonCodec.write(response, new ErrorResponse("Erro ao deletar usuário: " + e.getMessage()));
         }
     }
 
@@ -2,7 +2,6 @@ package com.disasterawareness.controller;
 
 import java.io.IOException;
 import java.sql.SQLException;
-import java.util.List;
 
 import javax.servlet.ServletException;
 import javax.servlet.annotation.WebServlet;
@@ -11,7 +10,16 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import com.disasterawareness.model.Content;
+import com.disasterawareness.model.ContentSummary;
+import com.disasterawareness.service.ContentResponseCache;
 import com.disasterawareness.service.ContentService;
+import com.disasterawareness.service.ContentVersion;
+import com.disasterawareness.utils.AcceptEncoding;
+import com.disasterawareness.utils.ApiRoutes;
+import com.disasterawareness.utils.JsonArrayWriter;
+import com.disasterawareness.utils.JsonCodec;
+import com.disasterawareness.utils.PageRequest;
+import com.disasterawareness.utils.RouteMatch;
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 
@@ -22,7 +30,7 @@ public class ContentServlet extends HttpServlet {
 
     public ContentServlet() {
         this.contentService = new ContentService();
-        this.gson = new Gson();
+        this.gson = JsonCodec.gson();
     }
 
     @Override
@@ -31,33 +39,80 @@ public class ContentServlet extends HttpServlet {
         response.setContentType("application/json");
         response.setCharacterEncoding("UTF-8");
 
+        RouteMatch route = ApiRoutes.match(request);
+        if (route == null || !(route.is(ApiRoutes.CONTENT_LIST) || route.is(ApiRoutes.CONTENT_GET)
+                || route.is(ApiRoutes.CONTENT_BY_DISASTER))) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            JsonCodec.write(response, new ErrorResponse("Rota não encontrada."));
+            return;
+        }
+
         String pathInfo = request.getPathInfo();
+        boolean summary = "summary".equals(request.getParameter("view"));
+
+        boolean byDisasterType = route.is(ApiRoutes.CONTENT_BY_DISASTER);
+        boolean gzip = byDisasterType && AcceptEncoding.accepts(request.getHeader("Accept-Encoding"), "gzip");
+
+        PageRequest pageRequest = null;
+        if (route.is(ApiRoutes.CONTENT_LIST)) {
+            try {
+                pageRequest = PageRequest.from(request);
+            } catch (IllegalArgumentException e) {
+                response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+                JsonCodec.write(response, new ErrorResponse(e.getMessage()));
+                return;
+            }
+        }
 
         try {
-            if (pathInfo == null || pathInfo.equals("/")) {
-                List<Content> contents = contentService.getAllContent();
-                response.getWriter().write(gson.toJson(contents));
-            } else if (pathInfo.startsWith("/disaster/")) {
-                String disasterType = pathInfo.substring("/disaster/".length());
-                List<Content> contents = contentService.getContentByDisasterType(disasterType);
-                response.getWriter().write(gson.toJson(contents));
-            } else {
-                Long contentId = Long.parseLong(pathInfo.substring(1));
-                Content content = contentService.getContentById(contentId);
-                response.getWriter().write(gson.toJson(content));
+            String etag = contentService.getContentETag(
+                    pathInfo + "?" + request.getQueryString() + (gzip ? ";gzip" : ""));
+            String ifNoneMatch = request.getHeader("If-None-Match");
+            boolean notModified = ContentVersion.matches(ifNoneMatch, etag);
+            Content content = null;
+            if (route.is(ApiRoutes.CONTENT_GET) && (!notModified || "*".equals(ifNoneMatch.trim()))) {
+                content = contentService.getContentById(route.getLong("id"));
             }
 
-            response.setStatus(HttpServletResponse.SC_OK);
+            response.setHeader("ETag", etag);
+            response.setHeader("Cache-Control", "no-cache");
+            if (byDisasterType) {
+                response.setHeader("Vary", "Accept-Encoding");
+            }
+            if (notModified) {
+                response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                return;
+            }
 
-        } catch (NumberFormatException e) {
-            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-            response.getWriter().write(gson.toJson(new ErrorResponse("ID inválido.")));
+            response.setStatus(HttpServletResponse.SC_OK);
+            if (route.is(ApiRoutes.CONTENT_LIST)) {
+                if (pageRequest != null) {
+                    JsonCodec.write(response, summary
+                            ? contentService.getContentSummaryPage(pageRequest)
+                            : contentService.getContentPage(pageRequest));
+                } else if (summary) {
+                    JsonArrayWriter.write(response, gson, ContentSummary.class, contentService::streamContentSummaries);
+                } else {
+                    JsonArrayWriter.write(response, gson, Content.class, contentService::streamAllContent);
+                }
+            } else if (byDisasterType) {
+                String disasterType = route.getString("type");
+                ContentResponseCache.Body body = contentService.getContentJsonByDisasterType(disasterType, summary);
+                byte[] bytes = gzip ? body.getGzip() : body.getJson();
+                if (gzip) {
+                    response.setHeader("Content-Encoding", "gzip");
+                }
+                response.setContentLength(bytes.length);
+                response.getOutputStream().write(bytes);
+            } else {
+                JsonCodec.write(response, content);
+            }
         } catch (IllegalArgumentException e) {
             response.setStatus(HttpServletResponse.SC_NOT_FOUND);
-            response.getWriter().write(gson.toJson(new ErrorResponse(e.getMessage())));
+            JsonCodec.write(response, new ErrorResponse(e.getMessage()));
         } catch (SQLException e) {
             response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
-            response.getWriter().write(gson.toJson(new ErrorResponse("Erro ao buscar conteúdo.")));
+            JsonCodec.write(response, new ErrorResponse("Erro ao buscar conteúdo."));
         }
     }
 
@@ -67,6 +122,13 @@ public class ContentServlet extends HttpServlet {
         response.setContentType("application/json");
         response.setCharacterEncoding("UTF-8");
 
+        RouteMatch route = ApiRoutes.match(request);
+        if (route == null || !route.is(ApiRoutes.CONTENT_CREATE)) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            JsonCodec.write(response, new ErrorResponse("Rota não encontrada."));
+            return;
+        }
+
         try {
             JsonObject jsonRequest = gson.fromJson(request.getReader(), JsonObject.class);
 
@@ -78,14 +140,14 @@ public class ContentServlet extends HttpServlet {
             Content content = contentService.createContent(disasterType, title, description, videoUrl);
 
             response.setStatus(HttpServletResponse.SC_CREATED);
-            response.getWriter().write(gson.toJson(new SuccessResponse("Conteúdo criado com sucesso.", content)));
+            JsonCodec.write(response, new SuccessResponse("Conteúdo criado com sucesso.", content));
 
         } catch (IllegalArgumentException e) {
             response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-            response.getWriter().write(gson.toJson(new ErrorResponse(e.getMessage())));
+            JsonCodec.write(response, new ErrorResponse(e.getMessage()));
         } catch (SQLException e) {
             response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
-            response.getWriter().write(gson.toJson(new ErrorResponse("Erro ao criar conteúdo.")));
+            JsonCodec.write(response, new ErrorResponse("Erro ao criar conteúdo."));
         }
     }
 
@@ -95,16 +157,16 @@ public class ContentServlet extends HttpServlet {
         response.setContentType("application/json");
         response.setCharacterEncoding("UTF-8");
 
-        String pathInfo = request.getPathInfo();
+        RouteMatch route = ApiRoutes.match(request);
 
         try {
-            if (pathInfo == null || pathInfo.equals("/")) {
+            if (route == null || !route.is(ApiRoutes.CONTENT_UPDATE)) {
                 response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-                response.getWriter().write(gson.toJson(new ErrorResponse("ID do conteúdo é obrigatório.")));
+                JsonCodec.write(response, new ErrorResponse("ID do conteúdo é obrigatório."));
                 return;
             }
 
-            Long contentId = Long.parseLong(pathInfo.substring(1));
+            Long contentId = route.getLong("id");
 
             JsonObject jsonRequest = gson.fromJson(request.getReader(), JsonObject.class);
 
@@ -123,18 +185,14 @@ public class ContentServlet extends HttpServlet {
             Content updatedContent = contentService.updateContent(content);
 
             response.setStatus(HttpServletResponse.SC_OK);
-            response.getWriter()
-                    .write(gson.toJson(new SuccessResponse("Conteúdo atualizado com sucesso.", updatedContent)));
+            JsonCodec.write(response, new SuccessResponse("Conteúdo atualizado com sucesso.", updatedContent));
 
-        } catch (NumberFormatException e) {
-            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-            response.getWriter().write(gson.toJson(new ErrorResponse("ID inválido.")));
         } catch (IllegalArgumentException e) {
             response.setStatus(HttpServletResponse.SC_NOT_FOUND);
-            response.getWriter().write(gson.toJson(new ErrorResponse(e.getMessage())));
+            JsonCodec.write(response, new ErrorResponse(e.getMessage()));
         } catch (SQLException e) {
             response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
-            response.getWriter().write(gson.toJson(new ErrorResponse("Erro ao atualizar conteúdo.")));
+            JsonCodec.write(response, new ErrorResponse("Erro ao atualizar conteúdo."));
         }
     }
 
@@ -144,30 +202,27 @@ public class ContentServlet extends HttpServlet {
         response.setContentType("application/json");
         response.setCharacterEncoding("UTF-8");
 
-        String pathInfo = request.getPathInfo();
+        RouteMatch route = ApiRoutes.match(request);
 
         try {
-            if (pathInfo == null || pathInfo.equals("/")) {
+            if (route == null || !route.is(ApiRoutes.CONTENT_DELETE)) {
                 response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-                response.getWriter().write(gson.toJson(new ErrorResponse("ID do conteúdo é obrigatório.")));
+                JsonCodec.write(response, new ErrorResponse("ID do conteúdo é obrigatório."));
                 return;
             }
 
-            Long contentId = Long.parseLong(pathInfo.substring(1));
+            Long contentId = route.getLong("id");
             contentService.deleteContent(contentId);
 
             response.setStatus(HttpServletResponse.SC_OK);
-            response.getWriter().write(gson.toJson(new SuccessResponse("Conteúdo excluído com sucesso.", null)));
+            JsonCodec.write(response, new SuccessResponse("Conteúdo excluído com sucesso.", null));
 
-        } catch (NumberFormatException e) {
-            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-            response.getWriter().write(gson.toJson(new ErrorResponse("ID inválido.")));
         } catch (IllegalArgumentException e) {
             response.setStatus(HttpServletResponse.SC_NOT_FOUND);
-            response.getWriter().write(gson.toJson(new ErrorResponse(e.getMessage())));
+            JsonCodec.write(response, new ErrorResponse(e.getMessage()));
         } catch (SQLException e) {
             response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
-            response.getWriter().write(gson.toJson(new ErrorResponse("Erro ao excluir conteúdo.")));
+            JsonCodec.write(response, new ErrorResponse("Erro ao excluir conteúdo."));
         }
     }
 
@@ -2,7 +2,6 @@ package com.disasterawareness.controller;
 
 import java.io.IOException;
 import java.sql.SQLException;
-import java.util.List;
 
 import javax.servlet.ServletException;
 import javax.servlet.annotation.WebServlet;
@@ -11,7 +10,14 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import com.disasterawareness.model.Kit;
+import com.disasterawareness.model.KitSummary;
+import com.disasterawareness.model.Page;
 import com.disasterawareness.service.KitService;
+import com.disasterawareness.utils.ApiRoutes;
+import com.disasterawareness.utils.JsonArrayWriter;
+import com.disasterawareness.utils.JsonCodec;
+import com.disasterawareness.utils.PageRequest;
+import com.disasterawareness.utils.RouteMatch;
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 
@@ -22,7 +28,7 @@ public class KitServlet extends HttpServlet {
 
     public KitServlet() {
         this.kitService = new KitService();
-        this.gson = new Gson();
+        this.gson = JsonCodec.gson();
     }
 
     @Override
@@ -31,47 +37,62 @@ public class KitServlet extends HttpServlet {
         response.setContentType("application/json");
         response.setCharacterEncoding("UTF-8");
 
-        String pathInfo = request.getPathInfo();
+        RouteMatch route = ApiRoutes.match(request);
         Long userId = (Long) request.getAttribute("userId");
         Boolean isAdmin = (Boolean) request.getAttribute("isAdmin");
 
         try {
-            if (pathInfo == null || pathInfo.equals("/")) {
-                List<Kit> kits;
+            if (route == null || !(route.is(ApiRoutes.KIT_LIST) || route.is(ApiRoutes.KIT_GET))) {
+                response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+                JsonCodec.write(response, new ErrorResponse("Rota não encontrada."));
+            } else if (route.is(ApiRoutes.KIT_LIST)) {
+                PageRequest pageRequest;
+                try {
+                    pageRequest = PageRequest.from(request);
+                } catch (IllegalArgumentException e) {
+                    response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+                    JsonCodec.write(response, new ErrorResponse(e.getMessage()));
+                    return;
+                }
+                if (pageRequest != null) {
+                    Page<KitSummary> page = isAdmin != null && isAdmin
+                            ? kitService.getKitPageForAdmin(pageRequest)
+                            : kitService.getKitPageForUser(userId, pageRequest);
+                    response.setStatus(HttpServletResponse.SC_OK);
+                    JsonCodec.write(response, page);
+                    return;
+                }
+
+                response.setStatus(HttpServletResponse.SC_OK);
                 if (isAdmin != null && isAdmin) {
-                    kits = kitService.getAllKitsForAdmin();
+                    JsonArrayWriter.write(response, gson, KitSummary.class, kitService::streamKitsForAdmin);
                 } else {
-                    kits = kitService.getKitsForUser(userId);
+                    JsonArrayWriter.write(response, gson, KitSummary.class,
+                            handler -> kitService.streamKitsForUser(userId, handler));
                 }
-                response.setStatus(HttpServletResponse.SC_OK);
-                response.getWriter().write(gson.toJson(kits));
             } else {
-                Long kitId = Long.parseLong(pathInfo.substring(1));
+                Long kitId = route.getLong("id");
                 Kit kit = kitService.getKitById(kitId);
 
                 if (kit == null) {
                     response.setStatus(HttpServletResponse.SC_NOT_FOUND);
-                    response.getWriter().write(gson.toJson(new ErrorResponse("Kit não encontrado.")));
+                    JsonCodec.write(response, new ErrorResponse("Kit não encontrado."));
                 } else {
                     if (kit.getUserId().equals(userId) || (isAdmin != null && isAdmin)) {
                         response.setStatus(HttpServletResponse.SC_OK);
-                        response.getWriter().write(gson.toJson(kit));
+                        JsonCodec.write(response, kit);
                     } else {
                         response.setStatus(HttpServletResponse.SC_FORBIDDEN);
-                        response.getWriter().write(
-                                gson.toJson(new ErrorResponse("Você não tem permissão para visualizar este kit.")));
+                        JsonCodec.write(response, new ErrorResponse("Você não tem permissão para visualizar este kit."));
                     }
                 }
             }
-        } catch (NumberFormatException e) {
-            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-            response.getWriter().write(gson.toJson(new ErrorResponse("ID do kit inválido.")));
         } catch (IllegalArgumentException e) {
             response.setStatus(HttpServletResponse.SC_NOT_FOUND);
-            response.getWriter().write(gson.toJson(new ErrorResponse(e.getMessage())));
+            JsonCodec.write(response, new ErrorResponse(e.getMessage()));
         } catch (SQLException e) {
             response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
-            response.getWriter().write(gson.toJson(new ErrorResponse("Erro ao buscar kit(s).")));
+            JsonCodec.write(response, new ErrorResponse("Erro ao buscar kit(s)."));
         }
     }
 
@@ -81,6 +102,13 @@ public class KitServlet extends HttpServlet {
         response.setContentType("application/json");
         response.setCharacterEncoding("UTF-8");
 
+        RouteMatch route = ApiRoutes.match(request);
+        if (route == null || !route.is(ApiRoutes.KIT_CREATE)) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            JsonCodec.write(response, new ErrorResponse("Rota não encontrada."));
+            return;
+        }
+
         Long userId = (Long) request.getAttribute("userId");
 
         try {
@@ -102,14 +130,14 @@ public class KitServlet extends HttpServlet {
                     recommendedItems, userId);
 
             response.setStatus(HttpServletResponse.SC_CREATED);
-            response.getWriter().write(gson.toJson(new SuccessResponse("Kit criado com sucesso.", kit)));
+            JsonCodec.write(response, new SuccessResponse("Kit criado com sucesso.", kit));
 
         } catch (IllegalArgumentException e) {
             response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-            response.getWriter().write(gson.toJson(new ErrorResponse(e.getMessage())));
+            JsonCodec.write(response, new ErrorResponse(e.getMessage()));
         } catch (SQLException e) {
             response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
-            response.getWriter().write(gson.toJson(new ErrorResponse("Erro ao criar kit.")));
+            JsonCodec.write(response, new ErrorResponse("Erro ao criar kit."));
         }
     }
 
@@ -119,16 +147,16 @@ public class KitServlet extends HttpServlet {
         response.setContentType("application/json");
         response.setCharacterEncoding("UTF-8");
 
-        String pathInfo = request.getPathInfo();
+        RouteMatch route = ApiRoutes.match(request);
 
         try {
-            if (pathInfo == null || pathInfo.equals("/")) {
+            if (route == null || !route.is(ApiRoutes.KIT_UPDATE)) {
                 response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-                response.getWriter().write(gson.toJson(new ErrorResponse("ID do kit é obrigatório.")));
+                JsonCodec.write(response, new ErrorResponse("ID do kit é obrigatório."));
                 return;
             }
 
-            Long kitId = Long.parseLong(pathInfo.substring(1));
+            Long kitId = route.getLong("id");
 
             JsonObject jsonRequest = gson.fromJson(request.getReader(), JsonObject.class);
 
@@ -157,14 +185,14 @@ public class KitServlet extends HttpServlet {
 
             Kit updatedKit = kitService.updateKit(kit);
             response.setStatus(HttpServletResponse.SC_OK);
-            response.getWriter().write(gson.toJson(new SuccessResponse("Kit atualizado com sucesso.", updatedKit)));
+            JsonCodec.write(response, new SuccessResponse("Kit atualizado com sucesso.", updatedKit));
 
         } catch (IllegalArgumentException e) {
             response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-            response.getWriter().write(gson.toJson(new ErrorResponse(e.getMessage())));
+            JsonCodec.write(response, new ErrorResponse(e.getMessage()));
         } catch (SQLException e) {
             response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
-            response.getWriter().write(gson.toJson(new ErrorResponse("Erro ao atualizar kit.")));
+            JsonCodec.write(response, new ErrorResponse("Erro ao atualizar kit."));
         }
     }
 
@@ -174,30 +202,27 @@ public class KitServlet extends HttpServlet {
         response.setContentType("application/json");
         response.setCharacterEncoding("UTF-8");
 
-        String pathInfo = request.getPathInfo();
+        RouteMatch route = ApiRoutes.match(request);
 
         try {
-            if (pathInfo == null || pathInfo.equals("/")) {
+            if (route == null || !route.is(ApiRoutes.KIT_DELETE)) {
                 response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-                response.getWriter().write(gson.toJson(new ErrorResponse("ID do kit é obrigatório.")));
+                JsonCodec.write(response, new ErrorResponse("ID do kit é obrigatório."));
                 return;
             }
 
-            Long kitId = Long.parseLong(pathInfo.substring(1));
+            Long kitId = route.getLong("id");
             kitService.deleteKit(kitId);
 
             response.setStatus(HttpServletResponse.SC_OK);
-            response.getWriter().write(gson.toJson(new SuccessResponse("Kit excluído com sucesso.", null)));
+            JsonCodec.write(response, new SuccessResponse("Kit excluído com sucesso.", null));
 
-        } catch (NumberFormatException e) {
-            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-            response.getWriter().write(gson.toJson(new ErrorResponse("ID inválido.")));
         } catch (IllegalArgumentException e) {
             response.setStatus(HttpServletResponse.SC_NOT_FOUND);
-            response.getWriter().write(gson.toJson(new ErrorResponse(e.getMessage())));
+            JsonCodec.write(response, new ErrorResponse(e.getMessage()));
         } catch (SQLException e) {
             response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
-            response.getWriter().write(gson.toJson(new ErrorResponse("Erro ao excluir kit.")));
+            JsonCodec.write(response, new ErrorResponse("Erro ao excluir kit."));
         }
     }
 
@@ -10,18 +10,36 @@ import javax.servlet.http.HttpServlet;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
+import com.disasterawareness.model.LeaderboardPosition;
 import com.disasterawareness.model.User;
+import com.disasterawareness.service.Leaderboard;
 import com.disasterawareness.service.UserService;
-import com.google.gson.Gson;
+import com.disasterawareness.utils.ApiRoutes;
+import com.disasterawareness.utils.JsonCodec;
+import com.disasterawareness.utils.PageRequest;
+import com.disasterawareness.utils.RouteMatch;
 
-@WebServlet("/api/leaderboard")
+@WebServlet(urlPatterns = { "/api/leaderboard", "/api/leaderboard/*" }, loadOnStartup = 1)
 public class LeaderboardServlet extends HttpServlet {
     private final UserService userService;
-    private final Gson gson;
 
     public LeaderboardServlet() {
         this.userService = new UserService();
-        this.gson = new Gson();
+    }
+
+    @Override
+    public void init() throws ServletException {
+        try {
+            Leaderboard.shared().reload();
+        } catch (SQLException | RuntimeException e) {
+            log("Erro ao carregar a leaderboard na inicialização", e);
+        }
+        Leaderboard.shared().scheduleReloads(e -> log("Erro ao recarregar a leaderboard", e));
+    }
+
+    @Override
+    public void destroy() {
+        Leaderboard.shared().stopReloads();
     }
 
     @Override
@@ -30,15 +48,83 @@ public class LeaderboardServlet extends HttpServlet {
         response.setContentType("application/json");
         response.setCharacterEncoding("UTF-8");
 
+        RouteMatch route = ApiRoutes.match(request);
+
         try {
+            if (route != null && route.is(ApiRoutes.LEADERBOARD_ME)) {
+                writePosition(request, response);
+                return;
+            }
+            if (route == null) {
+                response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+                JsonCodec.write(response, new ErrorResponse("Rota não encontrada."));
+                return;
+            }
+
+            PageRequest pageRequest = PageRequest.from(request);
+            String offset = request.getParameter("offset");
+            if (offset != null) {
+                int limit = pageRequest == null ? PageRequest.DEFAULT_LIMIT : pageRequest.getLimit();
+                response.setStatus(HttpServletResponse.SC_OK);
+                JsonCodec.write(response, userService.getLeaderboardByRank(parseOffset(offset), limit));
+                return;
+            }
+            if (pageRequest != null) {
+                response.setStatus(HttpServletResponse.SC_OK);
+                JsonCodec.write(response, userService.getLeaderboardPage(pageRequest));
+                return;
+            }
+
             List<User> leaderboard = userService.getLeaderboard();
             response.setStatus(HttpServletResponse.SC_OK);
-            response.getWriter().write(gson.toJson(leaderboard));
+            JsonCodec.write(response, leaderboard);
 
+        } catch (IllegalArgumentException e) {
+            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            JsonCodec.write(response, new ErrorResponse(e.getMessage()));
         } catch (SQLException e) {
             response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
-            response.getWriter()
-                    .write(gson.toJson(new ErrorResponse("Erro ao trazer a leaderboard: " + e.getMessage())));
+            JsonCodec.write(response, new ErrorResponse("Erro ao trazer a leaderboard: " + e.getMessage()));
+        }
+    }
+
+    private void writePosition(HttpServletRequest request, HttpServletResponse response)
+            throws IOException, SQLException {
+        Long userId = (Long) request.getAttribute("userId");
+        if (userId == null) {
+            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+            JsonCodec.write(response, new ErrorResponse("Não autorizado: Usuário não autenticado"));
+            return;
+        }
+
+        LeaderboardPosition position = userService.getLeaderboardPosition(userId,
+                parseWindow(request.getParameter("window")));
+        if (position == null) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            JsonCodec.write(response, new ErrorResponse("Usuário não encontrado."));
+            return;
+        }
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        JsonCodec.write(response, position);
+    }
+
+    private static int parseWindow(String window) {
+        if (window == null || window.isEmpty()) {
+            return UserService.DEFAULT_LEADERBOARD_WINDOW;
+        }
+        try {
+            return Integer.parseInt(window);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Parâmetro window inválido.");
+        }
+    }
+
+    private static int parseOffset(String offset) {
+        try {
+            return Integer.parseInt(offset);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Parâmetros de paginação inválidos.");
         }
     }
 
@@ -11,6 +11,7 @@ import javax.servlet.http.HttpServletResponse;
 
 import com.disasterawareness.model.User;
 import com.disasterawareness.service.UserService;
+import com.disasterawareness.utils.JsonCodec;
 import com.disasterawareness.utils.JwtUtil;
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
@@ -22,7 +23,7 @@ public class LoginServlet extends HttpServlet {
 
     public LoginServlet() {
         this.userService = new UserService();
-        this.gson = new Gson();
+        this.gson = JsonCodec.gson();
     }
 
     @Override
@@ -39,7 +40,7 @@ public class LoginServlet extends HttpServlet {
 
             if (email == null || password == null) {
                 response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-                response.getWriter().write(gson.toJson(new ErrorResponse("Email e senha são obrigatórios.")));
+                JsonCodec.write(response, new ErrorResponse("Email e senha são obrigatórios."));
                 return;
             }
 
@@ -48,15 +49,14 @@ public class LoginServlet extends HttpServlet {
             String token = JwtUtil.generateToken(user);
 
             response.setStatus(HttpServletResponse.SC_OK);
-            response.getWriter()
-                    .write(gson.toJson(new LoginSuccessResponse("Login realizado com sucesso.", user, token)));
+            JsonCodec.write(response, new LoginSuccessResponse("Login realizado com sucesso.", user, token));
 
         } catch (IllegalArgumentException e) {
             response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-            response.getWriter().write(gson.toJson(new ErrorResponse(e.getMessage())));
+            JsonCodec.write(response, new ErrorResponse(e.getMessage()));
         } catch (SQLException e) {
             response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
-            response.getWriter().write(gson.toJson(new ErrorResponse("Erro ao realizar login.")));
+            JsonCodec.write(response, new ErrorResponse("Erro ao realizar login."));
         }
     }
 
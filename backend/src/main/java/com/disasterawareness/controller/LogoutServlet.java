@@ -0,0 +1,62 @@
+package com.disasterawareness.controller;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.Date;
+
+import javax.servlet.ServletException;
+import javax.servlet.annotation.WebServlet;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import com.disasterawareness.service.TokenRevocationService;
+import com.disasterawareness.utils.JsonCodec;
+
+@WebServlet("/api/logout")
+public class LogoutServlet extends HttpServlet {
+
+    @Override
+    protected void doPost(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+        response.setContentType("application/json");
+        response.setCharacterEncoding("UTF-8");
+
+        String tokenId = (String) request.getAttribute("tokenId");
+        Date expiration = (Date) request.getAttribute("tokenExpiration");
+
+        try {
+            if (tokenId == null || expiration == null) {
+                response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+                JsonCodec.write(response,
+                        new ErrorResponse("Token sem identificador não pode ser revogado. Faça login novamente."));
+                return;
+            }
+
+            TokenRevocationService.shared().revokeToken(tokenId, expiration);
+
+            response.setStatus(HttpServletResponse.SC_OK);
+            JsonCodec.write(response, new SuccessResponse("Logout realizado com sucesso."));
+
+        } catch (SQLException e) {
+            response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+            JsonCodec.write(response, new ErrorResponse("Erro ao realizar logout: " + e.getMessage()));
+        }
+    }
+
+    private static class SuccessResponse {
+        private final String message;
+
+        public SuccessResponse(String message) {
+            this.message = message;
+        }
+    }
+
+    private static class ErrorResponse {
+        private final String error;
+
+        public ErrorResponse(String error) {
+            this.error = error;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.disasterawareness.controller;
+
+import java.io.IOException;
+
+import javax.servlet.ServletException;
+import javax.servlet.annotation.WebServlet;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import com.disasterawareness.utils.ConnectionFactory;
+import com.disasterawareness.utils.JsonCodec;
+
+@WebServlet("/api/admin/pool")
+public class PoolStatsServlet extends HttpServlet {
+
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+        response.setContentType("application/json");
+        response.setCharacterEncoding("UTF-8");
+        response.setStatus(HttpServletResponse.SC_OK);
+        JsonCodec.write(response, ConnectionFactory.getPoolStats());
+    }
+}
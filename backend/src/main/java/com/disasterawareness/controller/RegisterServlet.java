@@ -11,6 +11,7 @@ import javax.servlet.http.HttpServletResponse;
 
 import com.disasterawareness.model.User;
 import com.disasterawareness.service.UserService;
+import com.disasterawareness.utils.JsonCodec;
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 
@@ -21,7 +22,7 @@ public class RegisterServlet extends HttpServlet {
 
     public RegisterServlet() {
         this.userService = new UserService();
-        this.gson = new Gson();
+        this.gson = JsonCodec.gson();
     }
 
     @Override
@@ -39,7 +40,7 @@ public class RegisterServlet extends HttpServlet {
 
             if (name == null || email == null || password == null) {
                 response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-                response.getWriter().write(gson.toJson(new ErrorResponse("Todos os campos são obrigatórios.")));
+                JsonCodec.write(response, new ErrorResponse("Todos os campos são obrigatórios."));
                 return;
             }
 
@@ -51,15 +52,15 @@ public class RegisterServlet extends HttpServlet {
             responseUser.setEmail(user.getEmail());
 
             response.setStatus(HttpServletResponse.SC_CREATED);
-            response.getWriter().write(gson.toJson(responseUser));
+            JsonCodec.write(response, responseUser);
 
         } catch (IllegalArgumentException e) {
             response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-            response.getWriter().write(gson.toJson(new ErrorResponse(e.getMessage())));
+            JsonCodec.write(response, new ErrorResponse(e.getMessage()));
         } catch (SQLException e) {
             e.printStackTrace();
             response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
-            response.getWriter().write(gson.toJson(new ErrorResponse("Erro ao registrar usuário: " + e.getMessage())));
+            JsonCodec.write(response, new ErrorResponse("Erro ao registrar usuário: " + e.getMessage()));
         }
     }
 
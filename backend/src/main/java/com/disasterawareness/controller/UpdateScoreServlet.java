@@ -11,6 +11,7 @@ import javax.servlet.http.HttpServletResponse;
 
 import com.disasterawareness.model.User;
 import com.disasterawareness.service.UserService;
+import com.disasterawareness.utils.JsonCodec;
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 
@@ -21,7 +22,7 @@ public class UpdateScoreServlet extends HttpServlet {
 
     public UpdateScoreServlet() {
         this.userService = new UserService();
-        this.gson = new Gson();
+        this.gson = JsonCodec.gson();
     }
 
     @Override
@@ -38,23 +39,21 @@ public class UpdateScoreServlet extends HttpServlet {
 
             if (userId == null || score == null) {
                 response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-                response.getWriter()
-                        .write(gson.toJson(new ErrorResponse("ID de usuário e pontuação são obrigatórios.")));
+                JsonCodec.write(response, new ErrorResponse("ID de usuário e pontuação são obrigatórios."));
                 return;
             }
 
             User user = userService.updateUserScore(userId, score);
 
             response.setStatus(HttpServletResponse.SC_OK);
-            response.getWriter().write(gson.toJson(user));
+            JsonCodec.write(response, user);
 
         } catch (IllegalArgumentException e) {
             response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-            response.getWriter().write(gson.toJson(new ErrorResponse(e.getMessage())));
+            JsonCodec.write(response, new ErrorResponse(e.getMessage()));
         } catch (SQLException e) {
             response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
-            response.getWriter()
-                    .write(gson.toJson(new ErrorResponse("Erro ao atualizar pontuação: " + e.getMessage())));
+            JsonCodec.write(response, new ErrorResponse("Erro ao atualizar pontuação: " + e.getMessage()));
         }
     }
 
@@ -0,0 +1,28 @@
+package com.disasterawareness.dao;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+class BatchKeys {
+
+    static long[] execute(PreparedStatement stmt, int expected, String entity) throws SQLException {
+        stmt.executeBatch();
+
+        long[] keys = new long[expected];
+        int count = 0;
+        try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
+            while (count < expected && generatedKeys.next()) {
+                keys[count++] = generatedKeys.getLong(1);
+            }
+        }
+        if (count != expected) {
+            throw new SQLException("Falha ao importar " + entity + ", esperadas " + expected
+                    + " chaves geradas e obtidas " + count + ".");
+        }
+        return keys;
+    }
+
+    private BatchKeys() {
+    }
+}
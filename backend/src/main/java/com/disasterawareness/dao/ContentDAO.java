@@ -1,20 +1,38 @@
 package com.disasterawareness.dao;
 
+import java.io.IOException;
 import java.sql.SQLException;
 import java.util.List;
 
 import com.disasterawareness.model.Content;
+import com.disasterawareness.model.ContentSummary;
 
 public interface ContentDAO {
     Content create(Content content) throws SQLException;
 
+    void createAll(List<Content> contents, int batchSize) throws SQLException;
+
     Content findById(Long contentId) throws SQLException;
 
     List<Content> findByDisasterType(String disasterType) throws SQLException;
 
     List<Content> findAll() throws SQLException;
 
+    List<Content> findPage(long afterId, int limit) throws SQLException;
+
+    void streamAll(RowHandler<Content> handler) throws SQLException, IOException;
+
+    void streamSummaries(RowHandler<ContentSummary> handler) throws SQLException, IOException;
+
+    List<ContentSummary> findSummaries() throws SQLException;
+
+    List<ContentSummary> findSummariesByDisasterType(String disasterType) throws SQLException;
+
+    List<ContentSummary> findSummaryPage(long afterId, int limit) throws SQLException;
+
     Content update(Content content) throws SQLException;
 
     boolean delete(Long contentId) throws SQLException;
+
+    String getVersion() throws SQLException;
 }
\ No newline at end of file
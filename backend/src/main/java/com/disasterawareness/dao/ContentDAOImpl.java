@@ -1,24 +1,40 @@
 package com.disasterawareness.dao;
 
+import java.io.IOException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.List;
 
+import javax.sql.DataSource;
+
 import com.disasterawareness.model.Content;
+import com.disasterawareness.model.ContentSummary;
 import com.disasterawareness.utils.ConnectionFactory;
 
-import oracle.sql.NUMBER;
-
 public class ContentDAOImpl implements ContentDAO {
+    private static final String SUMMARY_COLUMNS = "content_id, disaster_type, title, video_url";
+    private static final String CONTENT_COLUMNS = SUMMARY_COLUMNS + ", description";
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    private final DataSource dataSource;
+
+    public ContentDAOImpl() {
+        this(ConnectionFactory.getDataSource());
+    }
+
+    public ContentDAOImpl(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
 
     @Override
     public Content create(Content content) throws SQLException {
         String sql = "INSERT INTO content (disaster_type, title, description, video_url) VALUES (?, ?, ?, ?)";
 
-        try (Connection conn = ConnectionFactory.getConnection();
+        try (Connection conn = dataSource.getConnection();
                 PreparedStatement stmt = conn.prepareStatement(sql, new String[] { "content_id" })) {
 
             stmt.setString(1, content.getDisasterType());
@@ -34,20 +50,7 @@ public class ContentDAOImpl implements ContentDAO {
 
             try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
                 if (generatedKeys.next()) {
-                    Object idObject = generatedKeys.getObject(1);
-                    if (idObject instanceof NUMBER) {
-                        NUMBER oracleNumber = (NUMBER) idObject;
-                        content.setContentId(oracleNumber.longValue());
-                    } else {
-                        System.err
-                                .println("Unexpected type for generated content ID: " + idObject.getClass().getName());
-                        if (idObject instanceof java.math.BigDecimal) {
-                            content.setContentId(((java.math.BigDecimal) idObject).longValue());
-                        } else {
-                            throw new SQLException(
-                                    "Unexpected type for generated key: " + idObject.getClass().getName());
-                        }
-                    }
+                    content.setContentId(generatedKeys.getLong(1));
                     return content;
                 } else {
                     throw new SQLException("Falha ao criar conteúdo, nenhum ID obtido.");
@@ -56,11 +59,35 @@ public class ContentDAOImpl implements ContentDAO {
         }
     }
 
+    @Override
+    public void createAll(List<Content> contents, int batchSize) throws SQLException {
+        String sql = "INSERT INTO content (disaster_type, title, description, video_url) VALUES (?, ?, ?, ?)";
+
+        try (Connection conn = dataSource.getConnection();
+                PreparedStatement stmt = conn.prepareStatement(sql, new String[] { "content_id" })) {
+
+            for (int start = 0; start < contents.size(); start += batchSize) {
+                List<Content> batch = contents.subList(start, Math.min(start + batchSize, contents.size()));
+                for (Content content : batch) {
+                    stmt.setString(1, content.getDisasterType());
+                    stmt.setString(2, content.getTitle());
+                    stmt.setString(3, content.getDescription());
+                    stmt.setString(4, content.getVideoUrl());
+                    stmt.addBatch();
+                }
+                long[] keys = BatchKeys.execute(stmt, batch.size(), "conteúdos");
+                for (int i = 0; i < batch.size(); i++) {
+                    batch.get(i).setContentId(keys[i]);
+                }
+            }
+        }
+    }
+
     @Override
     public Content findById(Long contentId) throws SQLException {
-        String sql = "SELECT * FROM content WHERE content_id = ?";
+        String sql = "SELECT " + CONTENT_COLUMNS + " FROM content WHERE content_id = ?";
 
-        try (Connection conn = ConnectionFactory.getConnection();
+        try (Connection conn = dataSource.getConnection();
                 PreparedStatement stmt = conn.prepareStatement(sql)) {
 
             stmt.setLong(1, contentId);
@@ -76,10 +103,10 @@ public class ContentDAOImpl implements ContentDAO {
 
     @Override
     public List<Content> findByDisasterType(String disasterType) throws SQLException {
-        String sql = "SELECT * FROM content WHERE disaster_type = ?";
+        String sql = "SELECT " + CONTENT_COLUMNS + " FROM content WHERE disaster_type = ?";
         List<Content> contents = new ArrayList<>();
 
-        try (Connection conn = ConnectionFactory.getConnection();
+        try (Connection conn = dataSource.getConnection();
                 PreparedStatement stmt = conn.prepareStatement(sql)) {
 
             stmt.setString(1, disasterType);
@@ -95,10 +122,10 @@ public class ContentDAOImpl implements ContentDAO {
 
     @Override
     public List<Content> findAll() throws SQLException {
-        String sql = "SELECT * FROM content";
+        String sql = "SELECT " + CONTENT_COLUMNS + " FROM content";
         List<Content> contents = new ArrayList<>();
 
-        try (Connection conn = ConnectionFactory.getConnection();
+        try (Connection conn = dataSource.getConnection();
                 PreparedStatement stmt = conn.prepareStatement(sql);
                 ResultSet rs = stmt.executeQuery()) {
 
@@ -109,11 +136,121 @@ public class ContentDAOImpl implements ContentDAO {
         return contents;
     }
 
+    @Override
+    public List<Content> findPage(long afterId, int limit) throws SQLException {
+        String sql = "SELECT " + CONTENT_COLUMNS + " FROM content WHERE content_id > ? ORDER BY content_id FETCH FIRST ? ROWS ONLY";
+        List<Content> contents = new ArrayList<>();
+
+        try (Connection conn = dataSource.getConnection();
+                PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setLong(1, afterId);
+            stmt.setInt(2, limit);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    contents.add(mapResultSetToContent(rs));
+                }
+            }
+        }
+        return contents;
+    }
+
+    @Override
+    public void streamAll(RowHandler<Content> handler) throws SQLException, IOException {
+        String sql = "SELECT " + CONTENT_COLUMNS + " FROM content";
+
+        try (Connection conn = dataSource.getConnection();
+                PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setFetchSize(STREAM_FETCH_SIZE);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    handler.handle(mapResultSetToContent(rs));
+                }
+            }
+        }
+    }
+
+    @Override
+    public void streamSummaries(RowHandler<ContentSummary> handler) throws SQLException, IOException {
+        String sql = "SELECT " + SUMMARY_COLUMNS + " FROM content";
+
+        try (Connection conn = dataSource.getConnection();
+                PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setFetchSize(STREAM_FETCH_SIZE);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    handler.handle(mapResultSetToContentSummary(rs));
+                }
+            }
+        }
+    }
+
+    @Override
+    public List<ContentSummary> findSummaries() throws SQLException {
+        String sql = "SELECT " + SUMMARY_COLUMNS + " FROM content";
+        List<ContentSummary> contents = new ArrayList<>();
+
+        try (Connection conn = dataSource.getConnection();
+                PreparedStatement stmt = conn.prepareStatement(sql);
+                ResultSet rs = stmt.executeQuery()) {
+
+            while (rs.next()) {
+                contents.add(mapResultSetToContentSummary(rs));
+            }
+        }
+        return contents;
+    }
+
+    @Override
+    public List<ContentSummary> findSummariesByDisasterType(String disasterType) throws SQLException {
+        String sql = "SELECT " + SUMMARY_COLUMNS + " FROM content WHERE disaster_type = ?";
+        List<ContentSummary> contents = new ArrayList<>();
+
+        try (Connection conn = dataSource.getConnection();
+                PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setString(1, disasterType);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    contents.add(mapResultSetToContentSummary(rs));
+                }
+            }
+        }
+        return contents;
+    }
+
+    @Override
+    public List<ContentSummary> findSummaryPage(long afterId, int limit) throws SQLException {
+        String sql = "SELECT " + SUMMARY_COLUMNS + " FROM content WHERE content_id > ? "
+                + "ORDER BY content_id FETCH FIRST ? ROWS ONLY";
+        List<ContentSummary> contents = new ArrayList<>();
+
+        try (Connection conn = dataSource.getConnection();
+                PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setLong(1, afterId);
+            stmt.setInt(2, limit);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    contents.add(mapResultSetToContentSummary(rs));
+                }
+            }
+        }
+        return contents;
+    }
+
     @Override
     public Content update(Content content) throws SQLException {
         String sql = "UPDATE content SET disaster_type = ?, title = ?, description = ?, video_url = ? WHERE content_id = ?";
 
-        try (Connection conn = ConnectionFactory.getConnection();
+        try (Connection conn = dataSource.getConnection();
                 PreparedStatement stmt = conn.prepareStatement(sql)) {
 
             stmt.setString(1, content.getDisasterType());
@@ -136,7 +273,7 @@ public class ContentDAOImpl implements ContentDAO {
     public boolean delete(Long contentId) throws SQLException {
         String sql = "DELETE FROM content WHERE content_id = ?";
 
-        try (Connection conn = ConnectionFactory.getConnection();
+        try (Connection conn = dataSource.getConnection();
                 PreparedStatement stmt = conn.prepareStatement(sql)) {
 
             stmt.setLong(1, contentId);
@@ -146,6 +283,26 @@ public class ContentDAOImpl implements ContentDAO {
         }
     }
 
+    @Override
+    public String getVersion() throws SQLException {
+        String sql = "SELECT COUNT(*), NVL(SUM(content_id), 0), MAX(updated_at) FROM content";
+
+        try (Connection conn = dataSource.getConnection();
+                PreparedStatement stmt = conn.prepareStatement(sql);
+                ResultSet rs = stmt.executeQuery()) {
+
+            if (!rs.next()) {
+                return "0";
+            }
+            String version = Long.toHexString(rs.getLong(1)) + "-" + Long.toHexString(rs.getLong(2));
+            Timestamp updatedAt = rs.getTimestamp(3);
+            if (updatedAt != null) {
+                version += "-" + Long.toHexString(updatedAt.getTime() / 1000) + "." + Integer.toHexString(updatedAt.getNanos());
+            }
+            return version;
+        }
+    }
+
     private Content mapResultSetToContent(ResultSet rs) throws SQLException {
         Content content = new Content();
         content.setContentId(rs.getLong("content_id"));
@@ -155,4 +312,13 @@ public class ContentDAOImpl implements ContentDAO {
         content.setVideoUrl(rs.getString("video_url"));
         return content;
     }
-}
\ No newline at end of file
+
+    private ContentSummary mapResultSetToContentSummary(ResultSet rs) throws SQLException {
+        ContentSummary content = new ContentSummary();
+        content.setContentId(rs.getLong("content_id"));
+        content.setDisasterType(rs.getString("disaster_type"));
+        content.setTitle(rs.getString("title"));
+        content.setVideoUrl(rs.getString("video_url"));
+        return content;
+    }
+}
@@ -1,22 +1,34 @@
 package com.disasterawareness.dao;
 
+import java.io.IOException;
 import java.sql.SQLException;
 import java.util.List;
 
 import com.disasterawareness.model.Kit;
+import com.disasterawareness.model.KitSummary;
 
 public interface KitDAO {
     Kit create(Kit kit) throws SQLException;
 
+    void createAll(List<Kit> kits, int batchSize) throws SQLException;
+
     Kit findById(Long kitId) throws SQLException;
 
-    List<Kit> findByHouseType(String houseType) throws SQLException;
+    List<KitSummary> findByHouseType(String houseType) throws SQLException;
+
+    List<KitSummary> findByRegion(String region) throws SQLException;
+
+    List<KitSummary> findAll() throws SQLException;
+
+    List<KitSummary> findByUserId(Long userId) throws SQLException;
+
+    void streamAll(RowHandler<KitSummary> handler) throws SQLException, IOException;
 
-    List<Kit> findByRegion(String region) throws SQLException;
+    void streamByUserId(Long userId, RowHandler<KitSummary> handler) throws SQLException, IOException;
 
-    List<Kit> findAll() throws SQLException;
+    List<KitSummary> findPage(long afterId, int limit) throws SQLException;
 
-    List<Kit> findByUserId(Long userId) throws SQLException;
+    List<KitSummary> findPageByUserId(Long userId, long afterId, int limit) throws SQLException;
 
     Kit update(Kit kit) throws SQLException;
 
@@ -1,5 +1,6 @@
 package com.disasterawareness.dao;
 
+import java.io.IOException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -7,10 +8,27 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 
+import javax.sql.DataSource;
+
 import com.disasterawareness.model.Kit;
+import com.disasterawareness.model.KitSummary;
 import com.disasterawareness.utils.ConnectionFactory;
 
 public class KitDAOImpl implements KitDAO {
+    private static final String SUMMARY_COLUMNS = "kit_id, house_type, num_residents, has_children, has_elderly, "
+            + "has_pets, region, is_custom, user_id";
+    private static final String KIT_COLUMNS = SUMMARY_COLUMNS + ", recommended_items";
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    private final DataSource dataSource;
+
+    public KitDAOImpl() {
+        this(ConnectionFactory.getDataSource());
+    }
+
+    public KitDAOImpl(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
 
     @Override
     public Kit create(Kit kit) throws SQLException {
@@ -18,7 +36,7 @@ public class KitDAOImpl implements KitDAO {
                 +
                 "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
 
-        try (Connection conn = ConnectionFactory.getConnection();
+        try (Connection conn = dataSource.getConnection();
                 PreparedStatement stmt = conn.prepareStatement(sql, new String[] { "kit_id" })) {
 
             stmt.setString(1, kit.getHouseType());
@@ -49,11 +67,41 @@ public class KitDAOImpl implements KitDAO {
         }
     }
 
+    @Override
+    public void createAll(List<Kit> kits, int batchSize) throws SQLException {
+        String sql = "INSERT INTO kits (house_type, num_residents, has_children, has_elderly, has_pets, region, "
+                + "recommended_items, is_custom, user_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+        try (Connection conn = dataSource.getConnection();
+                PreparedStatement stmt = conn.prepareStatement(sql, new String[] { "kit_id" })) {
+
+            for (int start = 0; start < kits.size(); start += batchSize) {
+                List<Kit> batch = kits.subList(start, Math.min(start + batchSize, kits.size()));
+                for (Kit kit : batch) {
+                    stmt.setString(1, kit.getHouseType());
+                    stmt.setInt(2, kit.getResidents());
+                    stmt.setBoolean(3, kit.getHasChildren());
+                    stmt.setBoolean(4, kit.getHasElderly());
+                    stmt.setBoolean(5, kit.getHasPets());
+                    stmt.setString(6, kit.getRegion());
+                    stmt.setString(7, kit.getRecommendedItems());
+                    stmt.setBoolean(8, kit.getIsCustom());
+                    stmt.setLong(9, kit.getUserId());
+                    stmt.addBatch();
+                }
+                long[] keys = BatchKeys.execute(stmt, batch.size(), "kits");
+                for (int i = 0; i < batch.size(); i++) {
+                    batch.get(i).setKitId(keys[i]);
+                }
+            }
+        }
+    }
+
     @Override
     public Kit findById(Long kitId) throws SQLException {
-        String sql = "SELECT * FROM kits WHERE kit_id = ?";
+        String sql = "SELECT " + KIT_COLUMNS + " FROM kits WHERE kit_id = ?";
 
-        try (Connection conn = ConnectionFactory.getConnection();
+        try (Connection conn = dataSource.getConnection();
                 PreparedStatement stmt = conn.prepareStatement(sql)) {
 
             stmt.setLong(1, kitId);
@@ -68,18 +116,18 @@ public class KitDAOImpl implements KitDAO {
     }
 
     @Override
-    public List<Kit> findByHouseType(String houseType) throws SQLException {
-        String sql = "SELECT * FROM kits WHERE house_type = ?";
-        List<Kit> kits = new ArrayList<>();
+    public List<KitSummary> findByHouseType(String houseType) throws SQLException {
+        String sql = "SELECT " + SUMMARY_COLUMNS + " FROM kits WHERE house_type = ?";
+        List<KitSummary> kits = new ArrayList<>();
 
-        try (Connection conn = ConnectionFactory.getConnection();
+        try (Connection conn = dataSource.getConnection();
                 PreparedStatement stmt = conn.prepareStatement(sql)) {
 
             stmt.setString(1, houseType);
 
             try (ResultSet rs = stmt.executeQuery()) {
                 while (rs.next()) {
-                    kits.add(mapResultSetToKit(rs));
+                    kits.add(mapResultSetToKitSummary(rs));
                 }
             }
         }
@@ -87,18 +135,18 @@ public class KitDAOImpl implements KitDAO {
     }
 
     @Override
-    public List<Kit> findByRegion(String region) throws SQLException {
-        String sql = "SELECT * FROM kits WHERE region = ?";
-        List<Kit> kits = new ArrayList<>();
+    public List<KitSummary> findByRegion(String region) throws SQLException {
+        String sql = "SELECT " + SUMMARY_COLUMNS + " FROM kits WHERE region = ?";
+        List<KitSummary> kits = new ArrayList<>();
 
-        try (Connection conn = ConnectionFactory.getConnection();
+        try (Connection conn = dataSource.getConnection();
                 PreparedStatement stmt = conn.prepareStatement(sql)) {
 
             stmt.setString(1, region);
 
             try (ResultSet rs = stmt.executeQuery()) {
                 while (rs.next()) {
-                    kits.add(mapResultSetToKit(rs));
+                    kits.add(mapResultSetToKitSummary(rs));
                 }
             }
         }
@@ -106,27 +154,62 @@ public class KitDAOImpl implements KitDAO {
     }
 
     @Override
-    public List<Kit> findAll() throws SQLException {
-        List<Kit> kits = new ArrayList<>();
-        String sql = "SELECT * FROM kits";
+    public List<KitSummary> findAll() throws SQLException {
+        List<KitSummary> kits = new ArrayList<>();
+        String sql = "SELECT " + SUMMARY_COLUMNS + " FROM kits";
 
-        try (Connection conn = ConnectionFactory.getConnection();
+        try (Connection conn = dataSource.getConnection();
                 PreparedStatement stmt = conn.prepareStatement(sql);
                 ResultSet rs = stmt.executeQuery()) {
 
             while (rs.next()) {
-                kits.add(mapResultSetToKit(rs));
+                kits.add(mapResultSetToKitSummary(rs));
             }
         }
         return kits;
     }
 
+    @Override
+    public void streamAll(RowHandler<KitSummary> handler) throws SQLException, IOException {
+        String sql = "SELECT " + SUMMARY_COLUMNS + " FROM kits";
+
+        try (Connection conn = dataSource.getConnection();
+                PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setFetchSize(STREAM_FETCH_SIZE);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    handler.handle(mapResultSetToKitSummary(rs));
+                }
+            }
+        }
+    }
+
+    @Override
+    public void streamByUserId(Long userId, RowHandler<KitSummary> handler) throws SQLException, IOException {
+        String sql = "SELECT " + SUMMARY_COLUMNS + " FROM kits WHERE user_id = ?";
+
+        try (Connection conn = dataSource.getConnection();
+                PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setLong(1, userId);
+            stmt.setFetchSize(STREAM_FETCH_SIZE);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    handler.handle(mapResultSetToKitSummary(rs));
+                }
+            }
+        }
+    }
+
     @Override
     public Kit update(Kit kit) throws SQLException {
         String sql = "UPDATE kits SET house_type = ?, num_residents = ?, has_children = ?, " +
                 "has_elderly = ?, has_pets = ?, region = ?, recommended_items = ?, is_custom = ? WHERE kit_id = ?";
 
-        try (Connection conn = ConnectionFactory.getConnection();
+        try (Connection conn = dataSource.getConnection();
                 PreparedStatement stmt = conn.prepareStatement(sql)) {
 
             stmt.setString(1, kit.getHouseType());
@@ -153,7 +236,7 @@ public class KitDAOImpl implements KitDAO {
     public boolean delete(Long kitId) throws SQLException {
         String sql = "DELETE FROM kits WHERE kit_id = ?";
 
-        try (Connection conn = ConnectionFactory.getConnection();
+        try (Connection conn = dataSource.getConnection();
                 PreparedStatement stmt = conn.prepareStatement(sql)) {
 
             stmt.setLong(1, kitId);
@@ -163,18 +246,59 @@ public class KitDAOImpl implements KitDAO {
         }
     }
 
-    public List<Kit> findByUserId(Long userId) throws SQLException {
-        List<Kit> kits = new ArrayList<>();
-        String sql = "SELECT * FROM kits WHERE user_id = ?";
+    public List<KitSummary> findByUserId(Long userId) throws SQLException {
+        List<KitSummary> kits = new ArrayList<>();
+        String sql = "SELECT " + SUMMARY_COLUMNS + " FROM kits WHERE user_id = ?";
+
+        try (Connection conn = dataSource.getConnection();
+                PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setLong(1, userId);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    kits.add(mapResultSetToKitSummary(rs));
+                }
+            }
+        }
+        return kits;
+    }
+
+    @Override
+    public List<KitSummary> findPage(long afterId, int limit) throws SQLException {
+        List<KitSummary> kits = new ArrayList<>();
+        String sql = "SELECT " + SUMMARY_COLUMNS + " FROM kits WHERE kit_id > ? ORDER BY kit_id FETCH FIRST ? ROWS ONLY";
+
+        try (Connection conn = dataSource.getConnection();
+                PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setLong(1, afterId);
+            stmt.setInt(2, limit);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    kits.add(mapResultSetToKitSummary(rs));
+                }
+            }
+        }
+        return kits;
+    }
+
+    @Override
+    public List<KitSummary> findPageByUserId(Long userId, long afterId, int limit) throws SQLException {
+        List<KitSummary> kits = new ArrayList<>();
+        String sql = "SELECT " + SUMMARY_COLUMNS + " FROM kits WHERE user_id = ? AND kit_id > ? ORDER BY kit_id FETCH FIRST ? ROWS ONLY";
 
-        try (Connection conn = ConnectionFactory.getConnection();
+        try (Connection conn = dataSource.getConnection();
                 PreparedStatement stmt = conn.prepareStatement(sql)) {
 
             stmt.setLong(1, userId);
+            stmt.setLong(2, afterId);
+            stmt.setInt(3, limit);
 
             try (ResultSet rs = stmt.executeQuery()) {
                 while (rs.next()) {
-                    kits.add(mapResultSetToKit(rs));
+                    kits.add(mapResultSetToKitSummary(rs));
                 }
             }
         }
@@ -195,4 +319,18 @@ public class KitDAOImpl implements KitDAO {
         kit.setUserId(rs.getLong("user_id"));
         return kit;
     }
-}
\ No newline at end of file
+
+    private KitSummary mapResultSetToKitSummary(ResultSet rs) throws SQLException {
+        KitSummary kit = new KitSummary();
+        kit.setKitId(rs.getLong("kit_id"));
+        kit.setHouseType(rs.getString("house_type"));
+        kit.setResidents(rs.getInt("num_residents"));
+        kit.setHasChildren(rs.getBoolean("has_children"));
+        kit.setHasElderly(rs.getBoolean("has_elderly"));
+        kit.setHasPets(rs.getBoolean("has_pets"));
+        kit.setRegion(rs.getString("region"));
+        kit.setIsCustom(rs.getBoolean("is_custom"));
+        kit.setUserId(rs.getLong("user_id"));
+        return kit;
+    }
+}
@@ -10,7 +10,13 @@ public interface QuizDAO {
 
     List<Quiz> getAllQuizzes() throws SQLException;
 
+    List<Quiz> getQuizPage(long afterId, int limit) throws SQLException;
+
     Quiz getQuizById(Long quizId) throws SQLException;
 
     List<AnswerChoice> getCorrectAnswerChoicesForQuestions(List<Long> questionIds) throws SQLException;
+
+    void createAll(List<Quiz> quizzes, int batchSize) throws SQLException;
+
+    String getCatalogVersion() throws SQLException;
 }
\ No newline at end of file
@@ -5,23 +5,35 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+
+import javax.sql.DataSource;
 
 import com.disasterawareness.model.AnswerChoice;
 import com.disasterawareness.model.Question;
 import com.disasterawareness.model.Quiz;
 import com.disasterawareness.utils.ConnectionFactory;
+import com.disasterawareness.utils.InList;
 
 public class QuizDAOImpl implements QuizDAO {
+    private static final int QUIZ_GRAPH_FETCH_SIZE = 200;
+
+    private final DataSource dataSource;
+
+    public QuizDAOImpl() {
+        this(ConnectionFactory.getDataSource());
+    }
+
+    public QuizDAOImpl(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
 
     @Override
     public List<Quiz> getAllQuizzes() throws SQLException {
         List<Quiz> quizzes = new ArrayList<>();
         String sql = "SELECT quiz_id, title, disaster_type FROM quizzes";
 
-        try (Connection conn = ConnectionFactory.getConnection();
+        try (Connection conn = dataSource.getConnection();
                 PreparedStatement stmt = conn.prepareStatement(sql);
                 ResultSet rs = stmt.executeQuery()) {
 
@@ -32,54 +44,77 @@ public class QuizDAOImpl implements QuizDAO {
         return quizzes;
     }
 
+    @Override
+    public List<Quiz> getQuizPage(long afterId, int limit) throws SQLException {
+        List<Quiz> quizzes = new ArrayList<>();
+        String sql = "SELECT quiz_id, title, disaster_type FROM quizzes WHERE quiz_id > ? "
+                + "ORDER BY quiz_id FETCH FIRST ? ROWS ONLY";
+
+        try (Connection conn = dataSource.getConnection();
+                PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setLong(1, afterId);
+            stmt.setInt(2, limit);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    quizzes.add(mapResultSetToQuiz(rs));
+                }
+            }
+        }
+        return quizzes;
+    }
+
     @Override
     public Quiz getQuizById(Long quizId) throws SQLException {
-        Quiz quiz = null;
-        String quizSql = "SELECT quiz_id, title, disaster_type FROM quizzes WHERE quiz_id = ?";
-        String questionsSql = "SELECT question_id, quiz_id, question_text, points FROM questions WHERE quiz_id = ? ORDER BY question_id";
-        String choicesSql = "SELECT choice_id, question_id, choice_text, is_correct FROM answer_choices WHERE question_id IN (SELECT question_id FROM questions WHERE quiz_id = ?)";
-
-        try (Connection conn = ConnectionFactory.getConnection()) {
-            try (PreparedStatement stmt = conn.prepareStatement(quizSql)) {
-                stmt.setLong(1, quizId);
-                try (ResultSet rs = stmt.executeQuery()) {
-                    if (rs.next()) {
+        String sql = "SELECT q.quiz_id, q.title, q.disaster_type, "
+                + "qs.question_id, qs.question_text, qs.points, "
+                + "ac.choice_id, ac.choice_text, ac.is_correct "
+                + "FROM quizzes q "
+                + "LEFT JOIN questions qs ON qs.quiz_id = q.quiz_id "
+                + "LEFT JOIN answer_choices ac ON ac.question_id = qs.question_id "
+                + "WHERE q.quiz_id = ? "
+                + "ORDER BY qs.question_id, ac.choice_id";
+
+        try (Connection conn = dataSource.getConnection();
+                PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setLong(1, quizId);
+            stmt.setFetchSize(QUIZ_GRAPH_FETCH_SIZE);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                Quiz quiz = null;
+                Question question = null;
+
+                while (rs.next()) {
+                    if (quiz == null) {
                         quiz = mapResultSetToQuiz(rs);
                         quiz.setQuestions(new ArrayList<>());
-                    } else {
-                        return null;
                     }
-                }
-            }
 
-            Map<Long, Question> questionMap = new HashMap<>();
-            try (PreparedStatement stmt = conn.prepareStatement(questionsSql)) {
-                stmt.setLong(1, quizId);
-                try (ResultSet rs = stmt.executeQuery()) {
-                    while (rs.next()) {
-                        Question question = mapResultSetToQuestion(rs);
+                    long questionId = rs.getLong("question_id");
+                    if (rs.wasNull()) {
+                        continue;
+                    }
+
+                    if (question == null || question.getQuestionId() != questionId) {
+                        question = new Question();
+                        question.setQuestionId(questionId);
+                        question.setQuizId(quiz.getQuizId());
+                        question.setQuestionText(rs.getString("question_text"));
+                        question.setPoints(rs.getInt("points"));
                         question.setAnswerChoices(new ArrayList<>());
                         quiz.getQuestions().add(question);
-                        questionMap.put(question.getQuestionId(), question);
                     }
-                }
-            }
 
-            try (PreparedStatement stmt = conn.prepareStatement(choicesSql)) {
-                stmt.setLong(1, quizId);
-                try (ResultSet rs = stmt.executeQuery()) {
-                    while (rs.next()) {
-                        AnswerChoice choice = mapResultSetToAnswerChoice(rs);
-                        Question question = questionMap.get(choice.getQuestionId());
-                        if (question != null) {
-                            question.getAnswerChoices().add(choice);
-                        }
+                    rs.getLong("choice_id");
+                    if (!rs.wasNull()) {
+                        question.getAnswerChoices().add(mapResultSetToAnswerChoice(rs));
                     }
                 }
+                return quiz;
             }
-
         }
-        return quiz;
     }
 
     @Override
@@ -89,30 +124,114 @@ public class QuizDAOImpl implements QuizDAO {
             return correctChoices;
         }
 
-        StringBuilder sql = new StringBuilder(
-                "SELECT choice_id, question_id, choice_text, is_correct FROM answer_choices WHERE is_correct = 1 AND question_id IN (");
-        for (int i = 0; i < questionIds.size(); i++) {
-            sql.append("?");
-            if (i < questionIds.size() - 1) {
-                sql.append(",");
+        String sqlPrefix = "SELECT choice_id, question_id, choice_text, is_correct FROM answer_choices WHERE is_correct = 1 AND question_id IN (";
+
+        try (Connection conn = dataSource.getConnection()) {
+            for (int from = 0; from < questionIds.size(); from += InList.MAX_SIZE) {
+                List<Long> chunk = questionIds.subList(from, Math.min(from + InList.MAX_SIZE, questionIds.size()));
+
+                try (PreparedStatement stmt = conn.prepareStatement(sqlPrefix + InList.placeholders(chunk.size()) + ")")) {
+                    InList.bind(stmt, 1, chunk);
+
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        while (rs.next()) {
+                            correctChoices.add(mapResultSetToAnswerChoice(rs));
+                        }
+                    }
+                }
             }
         }
-        sql.append(")");
+        return correctChoices;
+    }
 
-        try (Connection conn = ConnectionFactory.getConnection();
-                PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+    @Override
+    public void createAll(List<Quiz> quizzes, int batchSize) throws SQLException {
+        String quizSql = "INSERT INTO quizzes (title, disaster_type) VALUES (?, ?)";
+        String questionSql = "INSERT INTO questions (quiz_id, question_text, points) VALUES (?, ?, ?)";
+        String choiceSql = "INSERT INTO answer_choices (question_id, choice_text, is_correct) VALUES (?, ?, ?)";
+
+        List<Question> questions = new ArrayList<>();
+        List<AnswerChoice> choices = new ArrayList<>();
+
+        try (Connection conn = dataSource.getConnection()) {
+            try (PreparedStatement stmt = conn.prepareStatement(quizSql, new String[] { "quiz_id" })) {
+                for (int start = 0; start < quizzes.size(); start += batchSize) {
+                    List<Quiz> batch = quizzes.subList(start, Math.min(start + batchSize, quizzes.size()));
+                    for (Quiz quiz : batch) {
+                        stmt.setString(1, quiz.getTitle());
+                        stmt.setString(2, quiz.getDisasterType());
+                        stmt.addBatch();
+                    }
+                    long[] keys = BatchKeys.execute(stmt, batch.size(), "quizzes");
+                    for (int i = 0; i < batch.size(); i++) {
+                        Quiz quiz = batch.get(i);
+                        quiz.setQuizId(keys[i]);
+                        for (Question question : quiz.getQuestions()) {
+                            question.setQuizId(quiz.getQuizId());
+                            questions.add(question);
+                        }
+                    }
+                }
+            }
+
+            try (PreparedStatement stmt = conn.prepareStatement(questionSql, new String[] { "question_id" })) {
+                for (int start = 0; start < questions.size(); start += batchSize) {
+                    List<Question> batch = questions.subList(start, Math.min(start + batchSize, questions.size()));
+                    for (Question question : batch) {
+                        stmt.setLong(1, question.getQuizId());
+                        stmt.setString(2, question.getQuestionText());
+                        stmt.setInt(3, question.getPoints());
+                        stmt.addBatch();
+                    }
+                    long[] keys = BatchKeys.execute(stmt, batch.size(), "perguntas");
+                    for (int i = 0; i < batch.size(); i++) {
+                        Question question = batch.get(i);
+                        question.setQuestionId(keys[i]);
+                        for (AnswerChoice choice : question.getAnswerChoices()) {
+                            choice.setQuestionId(question.getQuestionId());
+                            choices.add(choice);
+                        }
+                    }
+                }
+            }
 
-            for (int i = 0; i < questionIds.size(); i++) {
-                stmt.setLong(i + 1, questionIds.get(i));
+            try (PreparedStatement stmt = conn.prepareStatement(choiceSql, new String[] { "choice_id" })) {
+                for (int start = 0; start < choices.size(); start += batchSize) {
+                    List<AnswerChoice> batch = choices.subList(start, Math.min(start + batchSize, choices.size()));
+                    for (AnswerChoice choice : batch) {
+                        stmt.setLong(1, choice.getQuestionId());
+                        stmt.setString(2, choice.getChoiceText());
+                        stmt.setInt(3, Boolean.TRUE.equals(choice.getIsCorrect()) ? 1 : 0);
+                        stmt.addBatch();
+                    }
+                    long[] keys = BatchKeys.execute(stmt, batch.size(), "alternativas de resposta");
+                    for (int i = 0; i < batch.size(); i++) {
+                        batch.get(i).setChoiceId(keys[i]);
+                    }
+                }
             }
+        }
+    }
 
-            try (ResultSet rs = stmt.executeQuery()) {
-                while (rs.next()) {
-                    correctChoices.add(mapResultSetToAnswerChoice(rs));
+    @Override
+    public String getCatalogVersion() throws SQLException {
+        String sql = "SELECT (SELECT COUNT(*) FROM quizzes), (SELECT NVL(MAX(quiz_id), 0) FROM quizzes), "
+                + "(SELECT COUNT(*) FROM questions), (SELECT NVL(MAX(question_id), 0) FROM questions), "
+                + "(SELECT COUNT(*) FROM answer_choices), (SELECT NVL(MAX(choice_id), 0) FROM answer_choices), "
+                + "(SELECT COUNT(*) FROM answer_choices WHERE is_correct = 1) FROM dual";
+
+        try (Connection conn = dataSource.getConnection();
+                PreparedStatement stmt = conn.prepareStatement(sql);
+                ResultSet rs = stmt.executeQuery()) {
+
+            StringBuilder version = new StringBuilder();
+            if (rs.next()) {
+                for (int i = 1; i <= 7; i++) {
+                    version.append(rs.getLong(i)).append(':');
                 }
             }
+            return version.toString();
         }
-        return correctChoices;
     }
 
     private Quiz mapResultSetToQuiz(ResultSet rs) throws SQLException {
@@ -123,15 +242,6 @@ public class QuizDAOImpl implements QuizDAO {
         return quiz;
     }
 
-    private Question mapResultSetToQuestion(ResultSet rs) throws SQLException {
-        Question question = new Question();
-        question.setQuestionId(rs.getLong("question_id"));
-        question.setQuizId(rs.getLong("quiz_id"));
-        question.setQuestionText(rs.getString("question_text"));
-        question.setPoints(rs.getInt("points"));
-        return question;
-    }
-
     private AnswerChoice mapResultSetToAnswerChoice(ResultSet rs) throws SQLException {
         AnswerChoice choice = new AnswerChoice();
         choice.setChoiceId(rs.getLong("choice_id"));
@@ -0,0 +1,15 @@
+package com.disasterawareness.dao;
+
+import java.sql.SQLException;
+import java.util.Date;
+import java.util.List;
+
+import com.disasterawareness.model.RevokedToken;
+
+public interface RevokedTokenDAO {
+    void revoke(RevokedToken token) throws SQLException;
+
+    List<RevokedToken> findActive(Date now) throws SQLException;
+
+    int deleteExpired(Date now) throws SQLException;
+}
@@ -0,0 +1,82 @@
+package com.disasterawareness.dao;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import com.disasterawareness.model.RevokedToken;
+import com.disasterawareness.utils.ConnectionFactory;
+
+public class RevokedTokenDAOImpl implements RevokedTokenDAO {
+    private static final int FETCH_SIZE = 1000;
+
+    private final DataSource dataSource;
+
+    public RevokedTokenDAOImpl() {
+        this(ConnectionFactory.getDataSource());
+    }
+
+    public RevokedTokenDAOImpl(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public void revoke(RevokedToken token) throws SQLException {
+        String sql = "MERGE INTO revoked_tokens t "
+                + "USING (SELECT CAST(? AS VARCHAR2(64)) AS token_id, CAST(? AS TIMESTAMP) AS revoked_at, "
+                + "CAST(? AS TIMESTAMP) AS expires_at FROM dual) s "
+                + "ON (t.token_id = s.token_id) "
+                + "WHEN MATCHED THEN UPDATE SET t.revoked_at = s.revoked_at, t.expires_at = s.expires_at "
+                + "WHEN NOT MATCHED THEN INSERT (token_id, revoked_at, expires_at) "
+                + "VALUES (s.token_id, s.revoked_at, s.expires_at)";
+
+        try (Connection conn = dataSource.getConnection();
+                PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setString(1, token.getTokenId());
+            stmt.setTimestamp(2, new Timestamp(token.getRevokedAt().getTime()));
+            stmt.setTimestamp(3, new Timestamp(token.getExpiresAt().getTime()));
+            stmt.executeUpdate();
+        }
+    }
+
+    @Override
+    public List<RevokedToken> findActive(Date now) throws SQLException {
+        String sql = "SELECT token_id, revoked_at, expires_at FROM revoked_tokens WHERE expires_at > ?";
+        List<RevokedToken> tokens = new ArrayList<>();
+
+        try (Connection conn = dataSource.getConnection();
+                PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setFetchSize(FETCH_SIZE);
+            stmt.setTimestamp(1, new Timestamp(now.getTime()));
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    tokens.add(new RevokedToken(rs.getString("token_id"), rs.getTimestamp("revoked_at"),
+                            rs.getTimestamp("expires_at")));
+                }
+            }
+        }
+        return tokens;
+    }
+
+    @Override
+    public int deleteExpired(Date now) throws SQLException {
+        String sql = "DELETE FROM revoked_tokens WHERE expires_at <= ?";
+
+        try (Connection conn = dataSource.getConnection();
+                PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setTimestamp(1, new Timestamp(now.getTime()));
+            return stmt.executeUpdate();
+        }
+    }
+}
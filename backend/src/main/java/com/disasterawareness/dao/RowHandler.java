@@ -0,0 +1,8 @@
+package com.disasterawareness.dao;
+
+import java.io.IOException;
+
+@FunctionalInterface
+public interface RowHandler<T> {
+    void handle(T row) throws IOException;
+}
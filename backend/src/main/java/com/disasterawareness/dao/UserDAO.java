@@ -1,5 +1,6 @@
 package com.disasterawareness.dao;
 
+import java.io.IOException;
 import java.sql.SQLException;
 import java.util.List;
 
@@ -14,13 +15,21 @@ public interface UserDAO {
 
     List<User> findAll() throws SQLException;
 
+    void streamAll(RowHandler<User> handler) throws SQLException, IOException;
+
+    List<User> findPage(long afterId, int limit) throws SQLException;
+
     User update(User user) throws SQLException;
 
     boolean delete(Long userId) throws SQLException;
 
     User updateScore(Long userId, Integer score) throws SQLException;
 
+    Integer incrementScore(Long userId, int delta) throws SQLException;
+
     User addCompletedQuiz(Long userId, Long quizId) throws SQLException;
 
     List<User> getLeaderboard() throws SQLException;
+
+    List<User> getLeaderboardPage(long afterUserId, int limit) throws SQLException;
 }
\ No newline at end of file
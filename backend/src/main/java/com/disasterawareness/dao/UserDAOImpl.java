@@ -1,5 +1,6 @@
 package com.disasterawareness.dao;
 
+import java.io.IOException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -7,16 +8,34 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 
+import javax.sql.DataSource;
+
 import com.disasterawareness.model.User;
 import com.disasterawareness.utils.ConnectionFactory;
+import com.disasterawareness.utils.DatabaseBackend;
 
 public class UserDAOImpl implements UserDAO {
+    private static final String USER_COLUMNS = "user_id, name, email, score, is_admin";
+    private static final String LEADERBOARD_COLUMNS = "user_id, name, score";
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    private final DataSource dataSource;
+    private final DatabaseBackend backend;
+
+    public UserDAOImpl() {
+        this(ConnectionFactory.getDataSource(), ConnectionFactory.getBackend());
+    }
+
+    public UserDAOImpl(DataSource dataSource, DatabaseBackend backend) {
+        this.dataSource = dataSource;
+        this.backend = backend;
+    }
 
     @Override
     public User create(User user) throws SQLException {
         String sql = "INSERT INTO users (name, email, password) VALUES (?, ?, ?)";
 
-        try (Connection conn = ConnectionFactory.getConnection();
+        try (Connection conn = dataSource.getConnection();
                 PreparedStatement stmt = conn.prepareStatement(sql, new String[] { "user_id" })) {
 
             stmt.setString(1, user.getName());
@@ -42,16 +61,16 @@ public class UserDAOImpl implements UserDAO {
 
     @Override
     public User findByEmail(String email) throws SQLException {
-        String sql = "SELECT * FROM users WHERE email = ?";
+        String sql = "SELECT " + USER_COLUMNS + ", password FROM users WHERE email = ?";
 
-        try (Connection conn = ConnectionFactory.getConnection();
+        try (Connection conn = dataSource.getConnection();
                 PreparedStatement stmt = conn.prepareStatement(sql)) {
 
             stmt.setString(1, email);
 
             try (ResultSet rs = stmt.executeQuery()) {
                 if (rs.next()) {
-                    return mapResultSetToUser(rs);
+                    return mapResultSetToUserWithPassword(rs);
                 }
             }
         }
@@ -60,16 +79,16 @@ public class UserDAOImpl implements UserDAO {
 
     @Override
     public User findById(Long userId) throws SQLException {
-        String sql = "SELECT * FROM users WHERE user_id = ?";
+        String sql = "SELECT " + USER_COLUMNS + ", password FROM users WHERE user_id = ?";
 
-        try (Connection conn = ConnectionFactory.getConnection();
+        try (Connection conn = dataSource.getConnection();
                 PreparedStatement stmt = conn.prepareStatement(sql)) {
 
             stmt.setLong(1, userId);
 
             try (ResultSet rs = stmt.executeQuery()) {
                 if (rs.next()) {
-                    return mapResultSetToUser(rs);
+                    return mapResultSetToUserWithPassword(rs);
                 }
             }
         }
@@ -78,10 +97,10 @@ public class UserDAOImpl implements UserDAO {
 
     @Override
     public List<User> findAll() throws SQLException {
-        String sql = "SELECT * FROM users";
+        String sql = "SELECT " + USER_COLUMNS + " FROM users";
         List<User> users = new ArrayList<>();
 
-        try (Connection conn = ConnectionFactory.getConnection();
+        try (Connection conn = dataSource.getConnection();
                 PreparedStatement stmt = conn.prepareStatement(sql);
                 ResultSet rs = stmt.executeQuery()) {
 
@@ -92,17 +111,55 @@ public class UserDAOImpl implements UserDAO {
         return users;
     }
 
+    @Override
+    public void streamAll(RowHandler<User> handler) throws SQLException, IOException {
+        String sql = "SELECT " + USER_COLUMNS + " FROM users";
+
+        try (Connection conn = dataSource.getConnection();
+                PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setFetchSize(STREAM_FETCH_SIZE);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    handler.handle(mapResultSetToUser(rs));
+                }
+            }
+        }
+    }
+
+    @Override
+    public List<User> findPage(long afterId, int limit) throws SQLException {
+        String sql = "SELECT " + USER_COLUMNS + " FROM users WHERE user_id > ? ORDER BY user_id FETCH FIRST ? ROWS ONLY";
+        List<User> users = new ArrayList<>();
+
+        try (Connection conn = dataSource.getConnection();
+                PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setLong(1, afterId);
+            stmt.setInt(2, limit);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    users.add(mapResultSetToUser(rs));
+                }
+            }
+        }
+        return users;
+    }
+
     @Override
     public User update(User user) throws SQLException {
-        String sql = "UPDATE users SET name = ?, email = ?, password = ? WHERE user_id = ?";
+        String sql = "UPDATE users SET name = ?, email = ?, password = ?, is_admin = ? WHERE user_id = ?";
 
-        try (Connection conn = ConnectionFactory.getConnection();
+        try (Connection conn = dataSource.getConnection();
                 PreparedStatement stmt = conn.prepareStatement(sql)) {
 
             stmt.setString(1, user.getName());
             stmt.setString(2, user.getEmail());
             stmt.setString(3, user.getPasswordHash());
-            stmt.setLong(4, user.getUserId());
+            stmt.setInt(4, Boolean.TRUE.equals(user.getIsAdmin()) ? 1 : 0);
+            stmt.setLong(5, user.getUserId());
 
             int affectedRows = stmt.executeUpdate();
 
@@ -118,7 +175,7 @@ public class UserDAOImpl implements UserDAO {
     public boolean delete(Long userId) throws SQLException {
         String sql = "DELETE FROM users WHERE user_id = ?";
 
-        try (Connection conn = ConnectionFactory.getConnection();
+        try (Connection conn = dataSource.getConnection();
                 PreparedStatement stmt = conn.prepareStatement(sql)) {
 
             stmt.setLong(1, userId);
@@ -132,7 +189,7 @@ public class UserDAOImpl implements UserDAO {
     public User updateScore(Long userId, Integer score) throws SQLException {
         String sql = "UPDATE users SET score = ? WHERE user_id = ?";
 
-        try (Connection conn = ConnectionFactory.getConnection();
+        try (Connection conn = dataSource.getConnection();
                 PreparedStatement stmt = conn.prepareStatement(sql)) {
 
             stmt.setInt(1, score);
@@ -148,13 +205,23 @@ public class UserDAOImpl implements UserDAO {
         }
     }
 
+    @Override
+    public Integer incrementScore(Long userId, int delta) throws SQLException {
+        String sql = "UPDATE users SET score = NVL(score, 0) + ? WHERE user_id = ?";
+
+        try (Connection conn = dataSource.getConnection()) {
+            Long newScore = backend.updateReturning(conn, sql, "score", delta, userId);
+            return newScore == null ? null : newScore.intValue();
+        }
+    }
+
     public User addCompletedQuiz(Long userId, Long quizId) throws SQLException {
         String sql = "UPDATE users SET completed_quizzes = CASE " +
                 "WHEN completed_quizzes IS NULL THEN ? " +
                 "ELSE completed_quizzes || ',' || ? " +
                 "END WHERE user_id = ?";
 
-        try (Connection conn = ConnectionFactory.getConnection();
+        try (Connection conn = dataSource.getConnection();
                 PreparedStatement stmt = conn.prepareStatement(sql)) {
 
             String quizIdStr = quizId.toString();
@@ -174,15 +241,41 @@ public class UserDAOImpl implements UserDAO {
 
     @Override
     public List<User> getLeaderboard() throws SQLException {
-        String sql = "SELECT * FROM users ORDER BY score DESC";
+        String sql = "SELECT " + LEADERBOARD_COLUMNS + " FROM users ORDER BY score DESC";
         List<User> users = new ArrayList<>();
 
-        try (Connection conn = ConnectionFactory.getConnection();
+        try (Connection conn = dataSource.getConnection();
                 PreparedStatement stmt = conn.prepareStatement(sql);
                 ResultSet rs = stmt.executeQuery()) {
 
             while (rs.next()) {
-                users.add(mapResultSetToUser(rs));
+                users.add(mapResultSetToLeaderboardEntry(rs));
+            }
+        }
+        return users;
+    }
+
+    @Override
+    public List<User> getLeaderboardPage(long afterUserId, int limit) throws SQLException {
+        String firstPageSql = "SELECT " + LEADERBOARD_COLUMNS + " FROM users ORDER BY score DESC, user_id FETCH FIRST ? ROWS ONLY";
+        String seekSql = "SELECT u.user_id, u.name, u.score FROM users u, (SELECT score, user_id FROM users WHERE user_id = ?) c "
+                + "WHERE u.score < c.score OR (u.score = c.score AND u.user_id > c.user_id) "
+                + "ORDER BY u.score DESC, u.user_id FETCH FIRST ? ROWS ONLY";
+        List<User> users = new ArrayList<>();
+
+        try (Connection conn = dataSource.getConnection();
+                PreparedStatement stmt = conn.prepareStatement(afterUserId == 0 ? firstPageSql : seekSql)) {
+
+            int index = 1;
+            if (afterUserId != 0) {
+                stmt.setLong(index++, afterUserId);
+            }
+            stmt.setInt(index, limit);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    users.add(mapResultSetToLeaderboardEntry(rs));
+                }
             }
         }
         return users;
@@ -193,11 +286,24 @@ public class UserDAOImpl implements UserDAO {
         user.setUserId(rs.getLong("user_id"));
         user.setName(rs.getString("name"));
         user.setEmail(rs.getString("email"));
-        user.setPasswordHash(rs.getString("password"));
         user.setScore(rs.getInt("score"));
         int isAdminInt = rs.getInt("is_admin");
         user.setIsAdmin(isAdminInt == 1);
 
         return user;
     }
-}
\ No newline at end of file
+
+    private User mapResultSetToUserWithPassword(ResultSet rs) throws SQLException {
+        User user = mapResultSetToUser(rs);
+        user.setPasswordHash(rs.getString("password"));
+        return user;
+    }
+
+    private User mapResultSetToLeaderboardEntry(ResultSet rs) throws SQLException {
+        User user = new User();
+        user.setUserId(rs.getLong("user_id"));
+        user.setName(rs.getString("name"));
+        user.setScore(rs.getInt("score"));
+        return user;
+    }
+}
@@ -1,9 +1,13 @@
 package com.disasterawareness.dao;
 
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Set;
 
 public interface UserEarnedQuestionPointsDAO {
     boolean hasUserEarnedPointsForQuestion(Long userId, Long questionId) throws SQLException;
 
     void recordUserEarnedPointsForQuestion(Long userId, Long questionId) throws SQLException;
-}
\ No newline at end of file
+
+    Set<Long> recordUserEarnedPointsForQuestions(Long userId, Collection<Long> questionIds) throws SQLException;
+}
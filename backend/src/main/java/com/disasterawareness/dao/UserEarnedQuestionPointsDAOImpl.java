@@ -1,19 +1,40 @@
 package com.disasterawareness.dao;
 
+import java.sql.BatchUpdateException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.sql.DataSource;
 
 import com.disasterawareness.utils.ConnectionFactory;
 
 public class UserEarnedQuestionPointsDAOImpl implements UserEarnedQuestionPointsDAO {
+    private final DataSource dataSource;
+
+    public UserEarnedQuestionPointsDAOImpl() {
+        this(ConnectionFactory.getDataSource());
+    }
+
+    public UserEarnedQuestionPointsDAOImpl(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
 
     @Override
     public boolean hasUserEarnedPointsForQuestion(Long userId, Long questionId) throws SQLException {
         String sql = "SELECT COUNT(*) FROM user_earned_question_points WHERE user_id = ? AND question_id = ?";
 
-        try (Connection conn = ConnectionFactory.getConnection();
+        try (Connection conn = dataSource.getConnection();
                 PreparedStatement stmt = conn.prepareStatement(sql)) {
 
             stmt.setLong(1, userId);
@@ -30,17 +51,100 @@ public class UserEarnedQuestionPointsDAOImpl implements UserEarnedQuestionPoints
 
     @Override
     public void recordUserEarnedPointsForQuestion(Long userId, Long questionId) throws SQLException {
-        if (!hasUserEarnedPointsForQuestion(userId, questionId)) {
-            String sql = "INSERT INTO user_earned_question_points (user_id, question_id) VALUES (?, ?)";
+        recordUserEarnedPointsForQuestions(userId, Collections.singletonList(questionId));
+    }
+
+    @Override
+    public Set<Long> recordUserEarnedPointsForQuestions(Long userId, Collection<Long> questionIds)
+            throws SQLException {
+        Set<Long> inserted = new LinkedHashSet<>();
+        if (questionIds == null || questionIds.isEmpty()) {
+            return inserted;
+        }
+
+        String sql = "MERGE INTO user_earned_question_points t "
+                + "USING (SELECT CAST(? AS NUMBER) AS user_id, CAST(? AS NUMBER) AS question_id FROM dual) s "
+                + "ON (t.user_id = s.user_id AND t.question_id = s.question_id) "
+                + "WHEN NOT MATCHED THEN INSERT (user_id, question_id) VALUES (s.user_id, s.question_id)";
 
-            try (Connection conn = ConnectionFactory.getConnection();
-                    PreparedStatement stmt = conn.prepareStatement(sql)) {
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(questionIds));
 
+        try (Connection conn = dataSource.getConnection();
+                PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            if (ids.size() == 1 || conn.getAutoCommit()) {
+                return mergeEach(stmt, userId, ids);
+            }
+
+            Savepoint savepoint = conn.setSavepoint();
+            for (Long questionId : ids) {
                 stmt.setLong(1, userId);
                 stmt.setLong(2, questionId);
+                stmt.addBatch();
+            }
+
+            int[] counts;
+            try {
+                counts = stmt.executeBatch();
+            } catch (BatchUpdateException e) {
+                if (!isUniqueViolation(e)) {
+                    throw e;
+                }
+                stmt.clearBatch();
+                conn.rollback(savepoint);
+                return mergeEach(stmt, userId, ids);
+            }
+
+            if (!hasExactCounts(counts, ids.size())) {
+                conn.rollback(savepoint);
+                return mergeEach(stmt, userId, ids);
+            }
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] > 0) {
+                    inserted.add(ids.get(i));
+                }
+            }
+        }
+        return inserted;
+    }
 
-                stmt.executeUpdate();
+    private Set<Long> mergeEach(PreparedStatement stmt, Long userId, List<Long> ids) throws SQLException {
+        Set<Long> inserted = new LinkedHashSet<>();
+        for (Long questionId : ids) {
+            stmt.setLong(1, userId);
+            stmt.setLong(2, questionId);
+            try {
+                if (stmt.executeUpdate() > 0) {
+                    inserted.add(questionId);
+                }
+            } catch (SQLException e) {
+                if (!isUniqueViolation(e)) {
+                    throw e;
+                }
             }
         }
+        return inserted;
+    }
+
+    private static boolean hasExactCounts(int[] counts, int expected) {
+        if (counts.length != expected) {
+            return false;
+        }
+        for (int count : counts) {
+            if (count == Statement.SUCCESS_NO_INFO) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isUniqueViolation(SQLException e) {
+        for (SQLException current = e; current != null; current = current.getNextException()) {
+            if (current instanceof SQLIntegrityConstraintViolationException
+                    || (current.getSQLState() != null && current.getSQLState().startsWith("23"))) {
+                return true;
+            }
+        }
+        return false;
     }
-}
\ No newline at end of file
+}
@@ -1,61 +0,0 @@
-package com.disasterawareness.filter;
-
-import java.io.IOException;
-
-import javax.servlet.Filter;
-import javax.servlet.FilterChain;
-import javax.servlet.FilterConfig;
-import javax.servlet.ServletException;
-import javax.servlet.ServletRequest;
-import javax.servlet.ServletResponse;
-import javax.servlet.http.HttpServletRequest;
-import javax.servlet.http.HttpServletResponse;
-
-import com.google.gson.Gson;
-
-public class AdminAuthFilter implements Filter {
-    private final Gson gson;
-
-    public AdminAuthFilter() {
-        this.gson = new Gson();
-    }
-
-    @Override
-    public void init(FilterConfig filterConfig) throws ServletException {
-    }
-
-    @Override
-    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
-            throws IOException, ServletException {
-        HttpServletRequest httpRequest = (HttpServletRequest) request;
-        HttpServletResponse httpResponse = (HttpServletResponse) response;
-
-        Boolean isAdmin = (Boolean) httpRequest.getAttribute("isAdmin");
-
-        if (isAdmin == null || !isAdmin) {
-            sendErrorResponse(httpResponse, "Acesso de Admin obrigatório", HttpServletResponse.SC_FORBIDDEN);
-            return;
-        }
-
-        chain.doFilter(request, response);
-    }
-
-    @Override
-    public void destroy() {
-    }
-
-    private void sendErrorResponse(HttpServletResponse response, String message, int status) throws IOException {
-        response.setContentType("application/json");
-        response.setCharacterEncoding("UTF-8");
-        response.setStatus(status);
-        response.getWriter().write(gson.toJson(new ErrorResponse(message)));
-    }
-
-    private static class ErrorResponse {
-        private final String error;
-
-        public ErrorResponse(String error) {
-            this.error = error;
-        }
-    }
-}
\ No newline at end of file
@@ -0,0 +1,556 @@
+package com.disasterawareness.filter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.FilterConfig;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+
+import com.disasterawareness.utils.AcceptEncoding;
+import com.disasterawareness.utils.DeflaterPool;
+
+public class CompressionFilter implements Filter {
+    private static final int DEFAULT_MIN_SIZE = 1024;
+    private static final int DEFAULT_LEVEL = 6;
+    private static final int DEFAULT_POOL_SIZE = 32;
+    private static final int BUFFER_SIZE = 8192;
+    private static final byte[] GZIP_HEADER = { 0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, 0 };
+
+    private int minSize = DEFAULT_MIN_SIZE;
+    private DeflaterPool gzipPool;
+    private DeflaterPool deflatePool;
+
+    @Override
+    public void init(FilterConfig filterConfig) throws ServletException {
+        minSize = intParameter(filterConfig, "minSize", DEFAULT_MIN_SIZE);
+        int level = intParameter(filterConfig, "compressionLevel", DEFAULT_LEVEL);
+        int poolSize = intParameter(filterConfig, "poolSize", DEFAULT_POOL_SIZE);
+        if (level < Deflater.BEST_SPEED || level > Deflater.BEST_COMPRESSION) {
+            throw new ServletException("Nível de compressão inválido: " + level);
+        }
+        gzipPool = new DeflaterPool(level, true, poolSize);
+        deflatePool = new DeflaterPool(level, false, poolSize);
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        HttpServletResponse httpResponse = (HttpServletResponse) response;
+
+        if (httpRequest.getMethod().equals("OPTIONS") || httpRequest.getMethod().equals("HEAD")
+                || httpRequest.isAsyncStarted()) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        httpResponse.addHeader("Vary", "Accept-Encoding");
+
+        String acceptEncoding = httpRequest.getHeader("Accept-Encoding");
+        String coding = AcceptEncoding.accepts(acceptEncoding, "gzip") ? "gzip"
+                : AcceptEncoding.accepts(acceptEncoding, "deflate") ? "deflate" : null;
+        if (coding == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        CompressionRequest compressionRequest = new CompressionRequest(httpRequest, coding);
+        CompressionResponse compressionResponse = new CompressionResponse(httpResponse, coding,
+                compressionRequest.sentVariantTag);
+        boolean completed = false;
+        try {
+            chain.doFilter(compressionRequest, compressionResponse);
+            completed = true;
+        } finally {
+            if (!completed) {
+                compressionResponse.abort();
+            } else if (compressionRequest.isAsyncStarted()) {
+                compressionResponse.finishOnAsyncComplete(compressionRequest);
+            } else {
+                compressionResponse.finish();
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (gzipPool != null) {
+            gzipPool.clear();
+        }
+        if (deflatePool != null) {
+            deflatePool.clear();
+        }
+    }
+
+    private static int intParameter(FilterConfig filterConfig, String name, int defaultValue)
+            throws ServletException {
+        String value = filterConfig.getInitParameter(name);
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new ServletException("Parâmetro " + name + " inválido: " + value);
+        }
+    }
+
+    private static boolean isCompressible(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        String type = contentType.toLowerCase();
+        return type.startsWith("application/json") || type.startsWith("text/")
+                || type.startsWith("application/javascript") || type.startsWith("application/xml");
+    }
+
+    private static String variantTag(String etag, String coding) {
+        if (etag == null || !etag.endsWith("\"")) {
+            return etag;
+        }
+        return etag.substring(0, etag.length() - 1) + "-" + coding + "\"";
+    }
+
+    private static class CompressionRequest extends HttpServletRequestWrapper {
+        private final String ifNoneMatch;
+        private final boolean sentVariantTag;
+
+        private CompressionRequest(HttpServletRequest request, String coding) {
+            super(request);
+            String header = request.getHeader("If-None-Match");
+            String suffix = "-" + coding + "\"";
+            if (header != null && header.contains(suffix)) {
+                this.ifNoneMatch = header.replace(suffix, "\"");
+                this.sentVariantTag = true;
+            } else {
+                this.ifNoneMatch = header;
+                this.sentVariantTag = false;
+            }
+        }
+
+        @Override
+        public String getHeader(String name) {
+            return "If-None-Match".equalsIgnoreCase(name) ? ifNoneMatch : super.getHeader(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(String name) {
+            if ("If-None-Match".equalsIgnoreCase(name)) {
+                return ifNoneMatch == null ? Collections.emptyEnumeration()
+                        : Collections.enumeration(Collections.singletonList(ifNoneMatch));
+            }
+            return super.getHeaders(name);
+        }
+    }
+
+    private class CompressionResponse extends HttpServletResponseWrapper {
+        private final String coding;
+        private final boolean sentVariantTag;
+        private CompressionStream stream;
+        private boolean streamRequested;
+        private PrintWriter writer;
+        private String etag;
+        private long declaredLength = -1;
+
+        private CompressionResponse(HttpServletResponse response, String coding, boolean sentVariantTag) {
+            super(response);
+            this.coding = coding;
+            this.sentVariantTag = sentVariantTag;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (writer != null) {
+                throw new IllegalStateException("getWriter() já foi chamado para esta resposta.");
+            }
+            streamRequested = true;
+            return stream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                if (streamRequested) {
+                    throw new IllegalStateException("getOutputStream() já foi chamado para esta resposta.");
+                }
+                writer = new PrintWriter(new OutputStreamWriter(stream(), getCharacterEncoding()));
+            }
+            return writer;
+        }
+
+        @Override
+        public void setContentLength(int length) {
+            setContentLengthLong(length);
+        }
+
+        @Override
+        public void setContentLengthLong(long length) {
+            if (stream == null || stream.state == State.BUFFERING) {
+                declaredLength = length;
+                if (length >= 0 && length < minSize) {
+                    passThrough();
+                }
+            } else if (stream.state == State.PASSTHROUGH) {
+                super.setContentLengthLong(length);
+            }
+        }
+
+        @Override
+        public void setHeader(String name, String value) {
+            if (interceptHeader(name, value)) {
+                return;
+            }
+            super.setHeader(name, value);
+        }
+
+        @Override
+        public void addHeader(String name, String value) {
+            if (interceptHeader(name, value)) {
+                return;
+            }
+            super.addHeader(name, value);
+        }
+
+        private boolean interceptHeader(String name, String value) {
+            if ("Content-Length".equalsIgnoreCase(name)) {
+                try {
+                    setContentLengthLong(Long.parseLong(value.trim()));
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+                return true;
+            }
+            if ("ETag".equalsIgnoreCase(name)) {
+                if (stream != null && stream.state == State.COMPRESSING) {
+                    super.setHeader(name, variantTag(value, coding));
+                } else if (stream != null && stream.state == State.PASSTHROUGH) {
+                    super.setHeader(name, value);
+                } else {
+                    etag = value;
+                }
+                return true;
+            }
+            if ("Content-Encoding".equalsIgnoreCase(name)) {
+                super.setHeader(name, value);
+                passThrough();
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            if (stream != null && stream.state != State.BUFFERING) {
+                stream.flush();
+                super.flushBuffer();
+            }
+        }
+
+        @Override
+        public boolean isCommitted() {
+            return (stream != null && stream.state == State.COMPRESSING) || super.isCommitted();
+        }
+
+        @Override
+        public void resetBuffer() {
+            if (stream != null && stream.state == State.BUFFERING) {
+                stream.buffer.reset();
+            }
+            super.resetBuffer();
+        }
+
+        @Override
+        public void reset() {
+            if (stream != null && stream.state == State.BUFFERING) {
+                stream.buffer.reset();
+            }
+            etag = null;
+            declaredLength = -1;
+            super.reset();
+            super.addHeader("Vary", "Accept-Encoding");
+        }
+
+        private CompressionStream stream() throws IOException {
+            if (stream == null) {
+                stream = new CompressionStream(this);
+            }
+            return stream;
+        }
+
+        private void passThrough() {
+            try {
+                stream().passThrough();
+            } catch (IOException e) {
+                throw new IllegalStateException("Erro ao liberar a resposta sem compressão.", e);
+            }
+        }
+
+        private boolean shouldCompress() {
+            int status = getStatus();
+            return status != SC_NO_CONTENT && status != SC_NOT_MODIFIED && status >= 200
+                    && getHeader("Content-Encoding") == null && isCompressible(getContentType())
+                    && (declaredLength < 0 || declaredLength >= minSize);
+        }
+
+        private void commitHeaders(boolean compressed, long bufferedLength, boolean finished) {
+            if (etag != null) {
+                boolean variant = compressed || (sentVariantTag && getStatus() == SC_NOT_MODIFIED);
+                super.setHeader("ETag", variant ? variantTag(etag, coding) : etag);
+                etag = null;
+            }
+            if (compressed) {
+                super.setHeader("Content-Encoding", coding);
+            } else if (declaredLength >= 0) {
+                super.setContentLengthLong(declaredLength);
+            } else if (finished && getStatus() != SC_NOT_MODIFIED && getStatus() != SC_NO_CONTENT) {
+                super.setContentLengthLong(bufferedLength);
+            }
+        }
+
+        private void finish() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            if (stream != null) {
+                stream.finish();
+            } else {
+                commitHeaders(false, 0, true);
+            }
+        }
+
+        private void abort() {
+            if (stream != null) {
+                stream.abort();
+            }
+        }
+
+        private void finishOnAsyncComplete(HttpServletRequest request) throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            if (stream == null || stream.state == State.BUFFERING) {
+                stream().passThrough();
+                return;
+            }
+            if (stream.state != State.COMPRESSING) {
+                return;
+            }
+
+            request.getAsyncContext().addListener(new AsyncListener() {
+                @Override
+                public void onComplete(AsyncEvent event) throws IOException {
+                    finish();
+                }
+
+                @Override
+                public void onTimeout(AsyncEvent event) {
+                    abort();
+                }
+
+                @Override
+                public void onError(AsyncEvent event) {
+                    abort();
+                }
+
+                @Override
+                public void onStartAsync(AsyncEvent event) {
+                }
+            });
+        }
+
+        private Deflater borrowDeflater() {
+            return coding.equals("gzip") ? gzipPool.borrow() : deflatePool.borrow();
+        }
+
+        private void releaseDeflater(Deflater deflater) {
+            if (coding.equals("gzip")) {
+                gzipPool.release(deflater);
+            } else {
+                deflatePool.release(deflater);
+            }
+        }
+    }
+
+    private enum State {
+        BUFFERING, COMPRESSING, PASSTHROUGH, FINISHED
+    }
+
+    private class CompressionStream extends ServletOutputStream {
+        private final CompressionResponse response;
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.min(minSize, BUFFER_SIZE));
+        private State state = State.BUFFERING;
+        private ServletOutputStream raw;
+        private Deflater deflater;
+        private DeflaterOutputStream deflating;
+        private CRC32 crc;
+        private long inputSize;
+
+        private CompressionStream(CompressionResponse response) {
+            this.response = response;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] { (byte) b }, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            switch (state) {
+                case BUFFERING:
+                    if (buffer.size() + length < minSize) {
+                        buffer.write(bytes, offset, length);
+                        return;
+                    }
+                    if (response.shouldCompress()) {
+                        startCompressing();
+                    } else {
+                        passThrough();
+                    }
+                    write(bytes, offset, length);
+                    return;
+                case COMPRESSING:
+                    deflating.write(bytes, offset, length);
+                    if (crc != null) {
+                        crc.update(bytes, offset, length);
+                    }
+                    inputSize += length;
+                    return;
+                case PASSTHROUGH:
+                    raw.write(bytes, offset, length);
+                    return;
+                default:
+                    throw new IOException("A resposta já foi finalizada.");
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (state == State.COMPRESSING) {
+                deflating.flush();
+            } else if (state == State.PASSTHROUGH) {
+                raw.flush();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            finish();
+        }
+
+        @Override
+        public boolean isReady() {
+            return state != State.PASSTHROUGH || raw.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            if (state == State.BUFFERING) {
+                response.passThrough();
+            }
+            if (state != State.PASSTHROUGH) {
+                throw new IllegalStateException("Escrita assíncrona não é suportada após o início da compressão.");
+            }
+            raw.setWriteListener(writeListener);
+        }
+
+        private void startCompressing() throws IOException {
+            response.commitHeaders(true, 0, false);
+            raw = response.getResponse().getOutputStream();
+            deflater = response.borrowDeflater();
+            if (response.coding.equals("gzip")) {
+                raw.write(GZIP_HEADER);
+                crc = new CRC32();
+            }
+            deflating = new DeflaterOutputStream(raw, deflater, BUFFER_SIZE);
+            state = State.COMPRESSING;
+            writeBuffered(deflating);
+        }
+
+        private void passThrough() throws IOException {
+            if (state != State.BUFFERING) {
+                return;
+            }
+            response.commitHeaders(false, 0, false);
+            raw = response.getResponse().getOutputStream();
+            state = State.PASSTHROUGH;
+            writeBuffered(raw);
+        }
+
+        private void writeBuffered(OutputStream out) throws IOException {
+            if (buffer.size() > 0) {
+                byte[] bytes = buffer.toByteArray();
+                buffer.reset();
+                if (crc != null) {
+                    crc.update(bytes, 0, bytes.length);
+                }
+                inputSize += bytes.length;
+                out.write(bytes);
+            }
+        }
+
+        private void finish() throws IOException {
+            switch (state) {
+                case BUFFERING:
+                    response.commitHeaders(false, buffer.size(), true);
+                    if (buffer.size() > 0) {
+                        response.getResponse().getOutputStream().write(buffer.toByteArray());
+                    }
+                    break;
+                case COMPRESSING:
+                    try {
+                        deflating.finish();
+                        if (crc != null) {
+                            writeInt(raw, (int) crc.getValue());
+                            writeInt(raw, (int) inputSize);
+                        }
+                    } finally {
+                        response.releaseDeflater(deflater);
+                        deflater = null;
+                    }
+                    break;
+                default:
+                    break;
+            }
+            state = State.FINISHED;
+        }
+
+        private void abort() {
+            if (state == State.COMPRESSING) {
+                response.releaseDeflater(deflater);
+                deflater = null;
+            }
+            state = State.FINISHED;
+        }
+
+        private void writeInt(OutputStream out, int value) throws IOException {
+            out.write(value & 0xff);
+            out.write((value >> 8) & 0xff);
+            out.write((value >> 16) & 0xff);
+            out.write((value >> 24) & 0xff);
+        }
+    }
+}
@@ -11,18 +11,20 @@ import javax.servlet.ServletResponse;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
+import com.disasterawareness.service.TokenRevocationService;
+import com.disasterawareness.utils.ApiRoutes;
+import com.disasterawareness.utils.JsonCodec;
 import com.disasterawareness.utils.JwtUtil;
-import com.google.gson.Gson;
+import com.disasterawareness.utils.Route.Access;
 
-public class JwtAuthFilter implements Filter {
-    private final Gson gson;
+import io.jsonwebtoken.Claims;
 
-    public JwtAuthFilter() {
-        this.gson = new Gson();
-    }
+public class JwtAuthFilter implements Filter {
 
     @Override
     public void init(FilterConfig filterConfig) throws ServletException {
+        TokenRevocationService.shared().scheduleRefresh(
+                e -> filterConfig.getServletContext().log("Erro ao atualizar a lista de tokens revogados", e));
     }
 
     @Override
@@ -36,10 +38,8 @@ public class JwtAuthFilter implements Filter {
             return;
         }
 
-        String requestURI = httpRequest.getRequestURI();
-        if (httpRequest.getMethod().equals("GET")
-                && (requestURI.startsWith(httpRequest.getContextPath() + "/api/content")
-                        || requestURI.startsWith(httpRequest.getContextPath() + "/api/content/"))) {
+        Access access = ApiRoutes.access(httpRequest);
+        if (access == Access.PUBLIC) {
             chain.doFilter(request, response);
             return;
         }
@@ -51,18 +51,31 @@ public class JwtAuthFilter implements Filter {
             token = authHeader.substring(7);
         }
 
-        if (token == null || !JwtUtil.validateToken(token)) {
+        Claims claims = token == null ? null : JwtUtil.verify(token);
+        if (claims == null) {
             sendErrorResponse(httpResponse, "Não autorizado: Token inválido ou ausente",
                     HttpServletResponse.SC_UNAUTHORIZED);
             return;
         }
 
         try {
-            Long userId = JwtUtil.extractUserId(token);
-            Boolean isAdmin = JwtUtil.extractIsAdmin(token);
+            Long userId = claims.get("userId", Long.class);
+            Boolean isAdmin = claims.get("isAdmin", Boolean.class);
+
+            if (TokenRevocationService.shared().isRevoked(claims.getId(), userId, claims.getIssuedAt())) {
+                sendErrorResponse(httpResponse, "Não autorizado: Token revogado", HttpServletResponse.SC_UNAUTHORIZED);
+                return;
+            }
+
+            if (access == Access.ADMIN && (isAdmin == null || !isAdmin)) {
+                sendErrorResponse(httpResponse, "Acesso de Admin obrigatório", HttpServletResponse.SC_FORBIDDEN);
+                return;
+            }
 
             httpRequest.setAttribute("userId", userId);
             httpRequest.setAttribute("isAdmin", isAdmin);
+            httpRequest.setAttribute("tokenId", claims.getId());
+            httpRequest.setAttribute("tokenExpiration", claims.getExpiration());
 
             chain.doFilter(request, response);
         } catch (Exception e) {
@@ -72,13 +85,14 @@ public class JwtAuthFilter implements Filter {
 
     @Override
     public void destroy() {
+        TokenRevocationService.shared().stopRefresh();
     }
 
     private void sendErrorResponse(HttpServletResponse response, String message, int status) throws IOException {
         response.setContentType("application/json");
         response.setCharacterEncoding("UTF-8");
         response.setStatus(status);
-        response.getWriter().write(gson.toJson(new ErrorResponse(message)));
+        JsonCodec.write(response, new ErrorResponse(message));
     }
 
     private static class ErrorResponse {
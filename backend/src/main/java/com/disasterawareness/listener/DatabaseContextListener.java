@@ -0,0 +1,21 @@
+package com.disasterawareness.listener;
+
+import javax.servlet.ServletContextEvent;
+import javax.servlet.ServletContextListener;
+import javax.servlet.annotation.WebListener;
+
+import com.disasterawareness.utils.ConnectionFactory;
+
+@WebListener
+public class DatabaseContextListener implements ServletContextListener {
+
+    @Override
+    public void contextInitialized(ServletContextEvent event) {
+        ConnectionFactory.getDataSource();
+    }
+
+    @Override
+    public void contextDestroyed(ServletContextEvent event) {
+        ConnectionFactory.shutdown();
+    }
+}
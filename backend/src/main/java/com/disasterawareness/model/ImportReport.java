@@ -0,0 +1,77 @@
+package com.disasterawareness.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ImportReport {
+    public static final String IMPORTED = "imported";
+    public static final String REJECTED = "rejected";
+
+    private int total;
+    private int imported;
+    private int rejected;
+    private final List<RowResult> results = new ArrayList<>();
+
+    public RowResult accept(int row) {
+        RowResult result = new RowResult(row, IMPORTED, null);
+        results.add(result);
+        total++;
+        imported++;
+        return result;
+    }
+
+    public void reject(int row, String error) {
+        results.add(new RowResult(row, REJECTED, error));
+        total++;
+        rejected++;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public int getImported() {
+        return imported;
+    }
+
+    public int getRejected() {
+        return rejected;
+    }
+
+    public List<RowResult> getResults() {
+        return results;
+    }
+
+    public static class RowResult {
+        private final int row;
+        private final String status;
+        private final String error;
+        private Long id;
+
+        public RowResult(int row, String status, String error) {
+            this.row = row;
+            this.status = status;
+            this.error = error;
+        }
+
+        public int getRow() {
+            return row;
+        }
+
+        public String getStatus() {
+            return status;
+        }
+
+        public String getError() {
+            return error;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+    }
+}
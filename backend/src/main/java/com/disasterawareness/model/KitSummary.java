@@ -0,0 +1,85 @@
+package com.disasterawareness.model;
+
+public class KitSummary {
+    private Long kitId;
+    private String houseType;
+    private int residents;
+    private boolean hasChildren;
+    private boolean hasElderly;
+    private boolean hasPets;
+    private String region;
+    private boolean isCustom;
+    private Long userId;
+
+    public Long getKitId() {
+        return kitId;
+    }
+
+    public void setKitId(Long kitId) {
+        this.kitId = kitId;
+    }
+
+    public String getHouseType() {
+        return houseType;
+    }
+
+    public void setHouseType(String houseType) {
+        this.houseType = houseType;
+    }
+
+    public int getResidents() {
+        return residents;
+    }
+
+    public void setResidents(int residents) {
+        this.residents = residents;
+    }
+
+    public boolean getHasChildren() {
+        return hasChildren;
+    }
+
+    public void setHasChildren(boolean hasChildren) {
+        this.hasChildren = hasChildren;
+    }
+
+    public boolean getHasElderly() {
+        return hasElderly;
+    }
+
+    public void setHasElderly(boolean hasElderly) {
+        this.hasElderly = hasElderly;
+    }
+
+    public boolean getHasPets() {
+        return hasPets;
+    }
+
+    public void setHasPets(boolean hasPets) {
+        this.hasPets = hasPets;
+    }
+
+    public String getRegion() {
+        return region;
+    }
+
+    public void setRegion(String region) {
+        this.region = region;
+    }
+
+    public boolean getIsCustom() {
+        return isCustom;
+    }
+
+    public void setIsCustom(boolean isCustom) {
+        this.isCustom = isCustom;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+}
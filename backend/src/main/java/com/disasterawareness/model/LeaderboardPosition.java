@@ -0,0 +1,39 @@
+package com.disasterawareness.model;
+
+import java.util.List;
+
+public class LeaderboardPosition {
+    private final int rank;
+    private final int totalUsers;
+    private final User user;
+    private final List<User> above;
+    private final List<User> below;
+
+    public LeaderboardPosition(int rank, int totalUsers, User user, List<User> above, List<User> below) {
+        this.rank = rank;
+        this.totalUsers = totalUsers;
+        this.user = user;
+        this.above = above;
+        this.below = below;
+    }
+
+    public int getRank() {
+        return rank;
+    }
+
+    public int getTotalUsers() {
+        return totalUsers;
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    public List<User> getAbove() {
+        return above;
+    }
+
+    public List<User> getBelow() {
+        return below;
+    }
+}
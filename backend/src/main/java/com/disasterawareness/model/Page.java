@@ -0,0 +1,30 @@
+package com.disasterawareness.model;
+
+import java.util.List;
+import java.util.function.Function;
+
+public class Page<T> {
+    private final List<T> items;
+    private final Long nextCursor;
+
+    public Page(List<T> items, Long nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public static <T> Page<T> of(List<T> rows, int limit, Function<T, Long> cursorOf) {
+        if (rows.size() <= limit) {
+            return new Page<>(rows, null);
+        }
+        List<T> items = rows.subList(0, limit);
+        return new Page<>(items, cursorOf.apply(items.get(limit - 1)));
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public Long getNextCursor() {
+        return nextCursor;
+    }
+}
@@ -0,0 +1,100 @@
+package com.disasterawareness.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class PublicQuiz {
+    private final Long quizId;
+    private final String title;
+    private final String disasterType;
+    private final List<PublicQuestion> questions;
+
+    private PublicQuiz(Long quizId, String title, String disasterType, List<PublicQuestion> questions) {
+        this.quizId = quizId;
+        this.title = title;
+        this.disasterType = disasterType;
+        this.questions = questions;
+    }
+
+    public static PublicQuiz from(Quiz quiz) {
+        List<PublicQuestion> questions = new ArrayList<>();
+        if (quiz.getQuestions() != null) {
+            for (Question question : quiz.getQuestions()) {
+                List<PublicChoice> choices = new ArrayList<>();
+                if (question.getAnswerChoices() != null) {
+                    for (AnswerChoice choice : question.getAnswerChoices()) {
+                        choices.add(new PublicChoice(choice.getChoiceId(), choice.getChoiceText()));
+                    }
+                }
+                questions.add(new PublicQuestion(question.getQuestionId(), question.getQuestionText(),
+                        question.getPoints(), choices));
+            }
+        }
+        return new PublicQuiz(quiz.getQuizId(), quiz.getTitle(), quiz.getDisasterType(), questions);
+    }
+
+    public Long getQuizId() {
+        return quizId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDisasterType() {
+        return disasterType;
+    }
+
+    public List<PublicQuestion> getQuestions() {
+        return questions;
+    }
+
+    public static class PublicQuestion {
+        private final Long questionId;
+        private final String questionText;
+        private final Integer points;
+        private final List<PublicChoice> answerChoices;
+
+        private PublicQuestion(Long questionId, String questionText, Integer points,
+                List<PublicChoice> answerChoices) {
+            this.questionId = questionId;
+            this.questionText = questionText;
+            this.points = points;
+            this.answerChoices = answerChoices;
+        }
+
+        public Long getQuestionId() {
+            return questionId;
+        }
+
+        public String getQuestionText() {
+            return questionText;
+        }
+
+        public Integer getPoints() {
+            return points;
+        }
+
+        public List<PublicChoice> getAnswerChoices() {
+            return answerChoices;
+        }
+    }
+
+    public static class PublicChoice {
+        private final Long choiceId;
+        private final String choiceText;
+
+        private PublicChoice(Long choiceId, String choiceText) {
+            this.choiceId = choiceId;
+            this.choiceText = choiceText;
+        }
+
+        public Long getChoiceId() {
+            return choiceId;
+        }
+
+        public String getChoiceText() {
+            return choiceText;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.disasterawareness.model;
+
+import java.util.Date;
+
+public class RevokedToken {
+    private String tokenId;
+    private Date revokedAt;
+    private Date expiresAt;
+
+    public RevokedToken() {
+    }
+
+    public RevokedToken(String tokenId, Date revokedAt, Date expiresAt) {
+        this.tokenId = tokenId;
+        this.revokedAt = revokedAt;
+        this.expiresAt = expiresAt;
+    }
+
+    public String getTokenId() {
+        return tokenId;
+    }
+
+    public void setTokenId(String tokenId) {
+        this.tokenId = tokenId;
+    }
+
+    public Date getRevokedAt() {
+        return revokedAt;
+    }
+
+    public void setRevokedAt(Date revokedAt) {
+        this.revokedAt = revokedAt;
+    }
+
+    public Date getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(Date expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+}
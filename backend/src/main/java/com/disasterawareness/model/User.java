@@ -3,13 +3,10 @@ package com.disasterawareness.model;
 import java.util.HashSet;
 import java.util.Set;
 
-import com.fasterxml.jackson.annotation.JsonIgnore;
-
 public class User {
     private Long userId;
     private String name;
     private String email;
-    @JsonIgnore
     private String passwordHash;
     private Integer score;
     private Boolean isAdmin;
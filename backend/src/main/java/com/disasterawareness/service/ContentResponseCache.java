@@ -0,0 +1,96 @@
+package com.disasterawareness.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
+
+import com.disasterawareness.dao.ContentDAO;
+import com.disasterawareness.dao.ContentDAOImpl;
+import com.disasterawareness.utils.JsonCodec;
+
+public class ContentResponseCache {
+    private static final int MAX_ENTRIES_PER_VIEW = 64;
+
+    private static volatile ContentResponseCache shared;
+
+    private final ContentDAO contentDAO;
+    private final ContentVersion contentVersion;
+    private final ConcurrentHashMap<String, Body> contentByType = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Body> summariesByType = new ConcurrentHashMap<>();
+
+    public ContentResponseCache(ContentDAO contentDAO, ContentVersion contentVersion) {
+        this.contentDAO = contentDAO;
+        this.contentVersion = contentVersion;
+    }
+
+    public static ContentResponseCache shared() {
+        ContentResponseCache current = shared;
+        if (current == null) {
+            synchronized (ContentResponseCache.class) {
+                current = shared;
+                if (current == null) {
+                    current = new ContentResponseCache(new ContentDAOImpl(), ContentVersion.shared());
+                    shared = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    public Body getByDisasterType(String disasterType, boolean summary) throws SQLException {
+        ConcurrentHashMap<String, Body> bodies = summary ? summariesByType : contentByType;
+        String version = contentVersion.current();
+
+        Body body = bodies.get(disasterType);
+        if (body != null && body.version.equals(version)) {
+            return body;
+        }
+
+        byte[] json = summary
+                ? JsonCodec.toBytes(contentDAO.findSummariesByDisasterType(disasterType))
+                : JsonCodec.toBytes(contentDAO.findByDisasterType(disasterType));
+        body = new Body(json, version);
+
+        if (bodies.size() < MAX_ENTRIES_PER_VIEW || bodies.containsKey(disasterType)) {
+            bodies.put(disasterType, body);
+        }
+        return body;
+    }
+
+    public void clear() {
+        contentByType.clear();
+        summariesByType.clear();
+    }
+
+    public static class Body {
+        private final byte[] json;
+        private final byte[] gzip;
+        private final String version;
+
+        private Body(byte[] json, String version) {
+            this.json = json;
+            this.gzip = compress(json);
+            this.version = version;
+        }
+
+        private static byte[] compress(byte[] json) {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(json.length / 2 + 32);
+            try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+                out.write(json);
+            } catch (IOException e) {
+                throw new IllegalStateException("Erro ao compactar a resposta de conteúdo.", e);
+            }
+            return buffer.toByteArray();
+        }
+
+        public byte[] getJson() {
+            return json;
+        }
+
+        public byte[] getGzip() {
+            return gzip;
+        }
+    }
+}
@@ -1,23 +1,49 @@
 package com.disasterawareness.service;
 
+import java.io.IOException;
 import java.sql.SQLException;
 import java.util.List;
 
 import com.disasterawareness.dao.ContentDAO;
 import com.disasterawareness.dao.ContentDAOImpl;
+import com.disasterawareness.dao.RowHandler;
 import com.disasterawareness.model.Content;
+import com.disasterawareness.model.ContentSummary;
+import com.disasterawareness.model.Page;
+import com.disasterawareness.utils.ConnectionFactory;
+import com.disasterawareness.utils.PageRequest;
 
 public class ContentService {
     private final ContentDAO contentDAO;
+    private final ContentVersion contentVersion;
+    private final ContentResponseCache responseCache;
 
     public ContentService() {
         this.contentDAO = new ContentDAOImpl();
+        this.contentVersion = ContentVersion.shared();
+        this.responseCache = ContentResponseCache.shared();
+    }
+
+    public String getContentETag(String variant) throws SQLException {
+        return contentVersion.etag(variant);
+    }
+
+    public void contentChanged() {
+        contentVersion.invalidate();
+        responseCache.clear();
     }
 
     public Content createContent(String disasterType, String title, String description, String videoUrl)
             throws SQLException {
         Content content = new Content(disasterType, title, description, videoUrl);
-        return contentDAO.create(content);
+        Content created = contentDAO.create(content);
+        ConnectionFactory.afterCommit(this::contentChanged);
+        return created;
+    }
+
+    public void createContents(List<Content> contents, int batchSize) throws SQLException {
+        contentDAO.createAll(contents, batchSize);
+        ConnectionFactory.afterCommit(this::contentChanged);
     }
 
     public Content getContentById(Long contentId) throws SQLException {
@@ -32,17 +58,50 @@ public class ContentService {
         return contentDAO.findByDisasterType(disasterType);
     }
 
+    public ContentResponseCache.Body getContentJsonByDisasterType(String disasterType, boolean summary)
+            throws SQLException {
+        return responseCache.getByDisasterType(disasterType, summary);
+    }
+
     public List<Content> getAllContent() throws SQLException {
         return contentDAO.findAll();
     }
 
+    public Page<Content> getContentPage(PageRequest pageRequest) throws SQLException {
+        List<Content> rows = contentDAO.findPage(pageRequest.getAfter(), pageRequest.getFetchSize());
+        return Page.of(rows, pageRequest.getLimit(), Content::getContentId);
+    }
+
+    public void streamAllContent(RowHandler<Content> handler) throws SQLException, IOException {
+        contentDAO.streamAll(handler);
+    }
+
+    public void streamContentSummaries(RowHandler<ContentSummary> handler) throws SQLException, IOException {
+        contentDAO.streamSummaries(handler);
+    }
+
+    public List<ContentSummary> getContentSummaries() throws SQLException {
+        return contentDAO.findSummaries();
+    }
+
+    public List<ContentSummary> getContentSummariesByDisasterType(String disasterType) throws SQLException {
+        return contentDAO.findSummariesByDisasterType(disasterType);
+    }
+
+    public Page<ContentSummary> getContentSummaryPage(PageRequest pageRequest) throws SQLException {
+        List<ContentSummary> rows = contentDAO.findSummaryPage(pageRequest.getAfter(), pageRequest.getFetchSize());
+        return Page.of(rows, pageRequest.getLimit(), ContentSummary::getContentId);
+    }
+
     public Content updateContent(Content content) throws SQLException {
         Content existingContent = contentDAO.findById(content.getContentId());
         if (existingContent == null) {
             throw new IllegalArgumentException("Conteúdo não encontrado.");
         }
 
-        return contentDAO.update(content);
+        Content updated = contentDAO.update(content);
+        ConnectionFactory.afterCommit(this::contentChanged);
+        return updated;
     }
 
     public boolean deleteContent(Long contentId) throws SQLException {
@@ -51,7 +110,9 @@ public class ContentService {
             throw new IllegalArgumentException("Conteúdo não encontrado.");
         }
 
-        return contentDAO.delete(contentId);
+        boolean deleted = contentDAO.delete(contentId);
+        ConnectionFactory.afterCommit(this::contentChanged);
+        return deleted;
     }
 
     public void validateContent(Content content) {
@@ -0,0 +1,78 @@
+package com.disasterawareness.service;
+
+import java.sql.SQLException;
+
+import com.disasterawareness.dao.ContentDAO;
+import com.disasterawareness.dao.ContentDAOImpl;
+
+public class ContentVersion {
+    private static final long VERSION_CHECK_INTERVAL_MILLIS = 5_000;
+
+    private static volatile ContentVersion shared;
+
+    private final ContentDAO contentDAO;
+    private volatile String version;
+    private volatile long lastVersionCheck;
+
+    public ContentVersion(ContentDAO contentDAO) {
+        this.contentDAO = contentDAO;
+    }
+
+    public static ContentVersion shared() {
+        ContentVersion current = shared;
+        if (current == null) {
+            synchronized (ContentVersion.class) {
+                current = shared;
+                if (current == null) {
+                    current = new ContentVersion(new ContentDAOImpl());
+                    shared = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    public String current() throws SQLException {
+        String current = version;
+        if (current != null && System.currentTimeMillis() - lastVersionCheck < VERSION_CHECK_INTERVAL_MILLIS) {
+            return current;
+        }
+
+        synchronized (this) {
+            long now = System.currentTimeMillis();
+            if (version == null || now - lastVersionCheck >= VERSION_CHECK_INTERVAL_MILLIS) {
+                version = contentDAO.getVersion();
+                lastVersionCheck = now;
+            }
+            return version;
+        }
+    }
+
+    public String etag(String variant) throws SQLException {
+        return "\"" + current() + "-" + Integer.toHexString(variant.hashCode()) + "\"";
+    }
+
+    public synchronized void invalidate() {
+        version = null;
+        lastVersionCheck = 0;
+    }
+
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        if (ifNoneMatch.trim().equals("*")) {
+            return true;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,47 @@
+package com.disasterawareness.service;
+
+import java.sql.SQLException;
+import java.util.List;
+
+import com.disasterawareness.model.Content;
+import com.disasterawareness.model.Kit;
+import com.disasterawareness.utils.ConnectionFactory;
+
+public class ImportService {
+    public static final int DEFAULT_BATCH_SIZE = 500;
+    public static final int MAX_BATCH_SIZE = 1000;
+
+    private final KitService kitService;
+    private final ContentService contentService;
+
+    public ImportService() {
+        this(new KitService(), new ContentService());
+    }
+
+    public ImportService(KitService kitService, ContentService contentService) {
+        this.kitService = kitService;
+        this.contentService = contentService;
+    }
+
+    public void importKits(List<Kit> kits, int batchSize) throws SQLException {
+        validateBatchSize(batchSize);
+        ConnectionFactory.inTransaction(() -> {
+            kitService.createKits(kits, batchSize);
+            return null;
+        });
+    }
+
+    public void importContents(List<Content> contents, int batchSize) throws SQLException {
+        validateBatchSize(batchSize);
+        ConnectionFactory.inTransaction(() -> {
+            contentService.createContents(contents, batchSize);
+            return null;
+        });
+    }
+
+    private static void validateBatchSize(int batchSize) {
+        if (batchSize <= 0 || batchSize > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("O tamanho do lote deve estar entre 1 e " + MAX_BATCH_SIZE + ".");
+        }
+    }
+}
@@ -1,11 +1,16 @@
 package com.disasterawareness.service;
 
+import java.io.IOException;
 import java.sql.SQLException;
 import java.util.List;
 
 import com.disasterawareness.dao.KitDAO;
 import com.disasterawareness.dao.KitDAOImpl;
+import com.disasterawareness.dao.RowHandler;
 import com.disasterawareness.model.Kit;
+import com.disasterawareness.model.KitSummary;
+import com.disasterawareness.model.Page;
+import com.disasterawareness.utils.PageRequest;
 
 public class KitService {
     private final KitDAO kitDAO;
@@ -19,6 +24,17 @@ public class KitService {
     public Kit createKit(String houseType, int residents, boolean hasChildren,
             boolean hasElderly, boolean hasPets, String region, boolean isCustom, String customRecommendedItems,
             Long userId) throws SQLException {
+        return kitDAO.create(prepareKit(houseType, residents, hasChildren, hasElderly, hasPets, region, isCustom,
+                customRecommendedItems, userId));
+    }
+
+    public Kit prepareKit(String houseType, int residents, boolean hasChildren,
+            boolean hasElderly, boolean hasPets, String region, boolean isCustom, String customRecommendedItems,
+            Long userId) {
+
+        if (userId == null) {
+            throw new IllegalArgumentException("Usuário do kit é obrigatório.");
+        }
 
         Kit kit = new Kit(houseType, residents, hasChildren, hasElderly, hasPets, region, "", isCustom, userId);
 
@@ -33,7 +49,11 @@ public class KitService {
             kit.setRecommendedItems(recommendedItemsService.generateRecommendedItems(kit));
         }
 
-        return kitDAO.create(kit);
+        return kit;
+    }
+
+    public void createKits(List<Kit> kits, int batchSize) throws SQLException {
+        kitDAO.createAll(kits, batchSize);
     }
 
     public Kit getKitById(Long kitId) throws SQLException {
@@ -44,26 +64,44 @@ public class KitService {
         return kit;
     }
 
-    public List<Kit> getKitsByHouseType(String houseType) throws SQLException {
+    public List<KitSummary> getKitsByHouseType(String houseType) throws SQLException {
         return kitDAO.findByHouseType(houseType);
     }
 
-    public List<Kit> getKitsByRegion(String region) throws SQLException {
+    public List<KitSummary> getKitsByRegion(String region) throws SQLException {
         return kitDAO.findByRegion(region);
     }
 
-    public List<Kit> getAllKits() throws SQLException {
+    public List<KitSummary> getAllKits() throws SQLException {
         return kitDAO.findAll();
     }
 
-    public List<Kit> getKitsForUser(Long userId) throws SQLException {
+    public List<KitSummary> getKitsForUser(Long userId) throws SQLException {
         return kitDAO.findByUserId(userId);
     }
 
-    public List<Kit> getAllKitsForAdmin() throws SQLException {
+    public List<KitSummary> getAllKitsForAdmin() throws SQLException {
         return kitDAO.findAll();
     }
 
+    public void streamKitsForUser(Long userId, RowHandler<KitSummary> handler) throws SQLException, IOException {
+        kitDAO.streamByUserId(userId, handler);
+    }
+
+    public void streamKitsForAdmin(RowHandler<KitSummary> handler) throws SQLException, IOException {
+        kitDAO.streamAll(handler);
+    }
+
+    public Page<KitSummary> getKitPageForUser(Long userId, PageRequest pageRequest) throws SQLException {
+        List<KitSummary> rows = kitDAO.findPageByUserId(userId, pageRequest.getAfter(), pageRequest.getFetchSize());
+        return Page.of(rows, pageRequest.getLimit(), KitSummary::getKitId);
+    }
+
+    public Page<KitSummary> getKitPageForAdmin(PageRequest pageRequest) throws SQLException {
+        List<KitSummary> rows = kitDAO.findPage(pageRequest.getAfter(), pageRequest.getFetchSize());
+        return Page.of(rows, pageRequest.getLimit(), KitSummary::getKitId);
+    }
+
     public Kit updateKit(Kit kit) throws SQLException {
         Kit existingKit = kitDAO.findById(kit.getKitId());
         if (existingKit == null) {
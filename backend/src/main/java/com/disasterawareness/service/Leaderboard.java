@@ -0,0 +1,417 @@
+package com.disasterawareness.service;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.disasterawareness.dao.UserDAO;
+import com.disasterawareness.dao.UserDAOImpl;
+import com.disasterawareness.model.LeaderboardPosition;
+import com.disasterawareness.model.User;
+
+public class Leaderboard {
+    private static final long RELOAD_INTERVAL_MILLIS = 600_000;
+
+    private static volatile Leaderboard shared;
+
+    private final UserDAO userDAO;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object reloadLock = new Object();
+    private final Random random = new Random();
+    private final AtomicLong versions = new AtomicLong();
+
+    private Map<Long, Node> nodesByUser = new HashMap<>();
+    private Node root;
+    private Map<Long, Node> changesDuringReload;
+    private volatile long loadedAt;
+    private ScheduledExecutorService reloadExecutor;
+
+    public Leaderboard(UserDAO userDAO) {
+        this.userDAO = userDAO;
+    }
+
+    public static Leaderboard shared() {
+        Leaderboard current = shared;
+        if (current == null) {
+            synchronized (Leaderboard.class) {
+                current = shared;
+                if (current == null) {
+                    current = new Leaderboard(new UserDAOImpl());
+                    shared = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    public void scheduleReloads(Consumer<SQLException> onFailure) {
+        scheduleReloads(RELOAD_INTERVAL_MILLIS, onFailure);
+    }
+
+    synchronized void scheduleReloads(long intervalMillis, Consumer<SQLException> onFailure) {
+        if (reloadExecutor != null) {
+            return;
+        }
+        reloadExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "leaderboard-reload");
+            thread.setDaemon(true);
+            return thread;
+        });
+        reloadExecutor.scheduleWithFixedDelay(() -> {
+            try {
+                reload();
+            } catch (SQLException e) {
+                onFailure.accept(e);
+            }
+        }, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized void stopReloads() {
+        if (reloadExecutor != null) {
+            reloadExecutor.shutdownNow();
+            reloadExecutor = null;
+        }
+    }
+
+    public int size() throws SQLException {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            return size(root);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<User> top(int limit) throws SQLException {
+        return range(0, limit);
+    }
+
+    public List<User> range(int offset, int limit) throws SQLException {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            return slice(Math.max(offset, 0), limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<User> after(Long userId, int limit) throws SQLException {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            Node node = nodesByUser.get(userId);
+            if (node == null) {
+                return new ArrayList<>();
+            }
+            return slice(indexOf(node) + 1, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public LeaderboardPosition positionOf(Long userId, int window) throws SQLException {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            Node node = nodesByUser.get(userId);
+            if (node == null) {
+                return null;
+            }
+            int index = indexOf(node);
+            int from = Math.max(index - window, 0);
+            return new LeaderboardPosition(index + 1, size(root), node.toUser(), slice(from, index - from),
+                    slice(index + 1, window));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long nextVersion() {
+        return versions.incrementAndGet();
+    }
+
+    public void put(Long userId, String name, int score, long version) {
+        lock.writeLock().lock();
+        try {
+            Node existing = nodesByUser.get(userId);
+            if (existing == null || existing.version < version) {
+                apply(new Node(userId, name, score, version, random.nextInt(), false));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean tracks(Long userId) {
+        lock.readLock().lock();
+        try {
+            return !isTracking() || nodesByUser.containsKey(userId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void setScore(Long userId, int score, long version) {
+        lock.writeLock().lock();
+        try {
+            Node existing = nodesByUser.get(userId);
+            if (existing != null && existing.version < version) {
+                apply(new Node(userId, existing.name, score, version, random.nextInt(), false));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void rename(Long userId, String name) {
+        lock.writeLock().lock();
+        try {
+            Node existing = nodesByUser.get(userId);
+            if (existing != null) {
+                apply(new Node(userId, name, existing.score, existing.version, random.nextInt(), false));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long userId) {
+        apply(new Node(userId, null, 0, 0, 0, true));
+    }
+
+    public void reload() throws SQLException {
+        synchronized (reloadLock) {
+            lock.writeLock().lock();
+            try {
+                changesDuringReload = new HashMap<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            List<User> users;
+            try {
+                users = userDAO.getLeaderboard();
+            } catch (SQLException e) {
+                lock.writeLock().lock();
+                try {
+                    changesDuringReload = null;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                throw e;
+            }
+
+            Map<Long, Node> loadedNodes = new HashMap<>(users.size() * 2);
+            Node loadedRoot = null;
+            for (User user : users) {
+                Node node = new Node(user.getUserId(), user.getName(),
+                        user.getScore() == null ? 0 : user.getScore(), 0, random.nextInt(), false);
+                loadedRoot = insert(loadedRoot, node);
+                loadedNodes.put(node.userId, node);
+            }
+
+            lock.writeLock().lock();
+            try {
+                Map<Long, Node> changes = changesDuringReload;
+                changesDuringReload = null;
+                root = loadedRoot;
+                nodesByUser = loadedNodes;
+                for (Node change : changes.values()) {
+                    replace(change);
+                }
+                loadedAt = System.currentTimeMillis();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private void ensureLoaded() throws SQLException {
+        if (loadedAt != 0) {
+            return;
+        }
+
+        synchronized (reloadLock) {
+            if (loadedAt == 0) {
+                reload();
+            }
+        }
+    }
+
+    private boolean isTracking() {
+        return loadedAt != 0 || changesDuringReload != null;
+    }
+
+    private void apply(Node change) {
+        lock.writeLock().lock();
+        try {
+            if (!isTracking()) {
+                return;
+            }
+            if (changesDuringReload != null) {
+                changesDuringReload.put(change.userId, change);
+            }
+            replace(change);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void replace(Node change) {
+        Node existing = nodesByUser.remove(change.userId);
+        if (existing != null) {
+            root = delete(root, existing);
+        }
+        if (!change.removed) {
+            root = insert(root, change);
+            nodesByUser.put(change.userId, change);
+        }
+    }
+
+    private List<User> slice(int from, int limit) {
+        int to = (int) Math.min((long) from + Math.max(limit, 0), size(root));
+        List<User> users = new ArrayList<>(Math.max(to - from, 0));
+        collect(root, from, to, 0, users);
+        return users;
+    }
+
+    private int indexOf(Node node) {
+        int index = 0;
+        Node current = root;
+        while (current != node) {
+            if (before(node, current)) {
+                current = current.left;
+            } else {
+                index += size(current.left) + 1;
+                current = current.right;
+            }
+        }
+        return index + size(current.left);
+    }
+
+    private static void collect(Node node, int from, int to, int base, List<User> out) {
+        if (node == null) {
+            return;
+        }
+        int index = base + size(node.left);
+        if (from < index) {
+            collect(node.left, from, to, base, out);
+        }
+        if (index >= from && index < to) {
+            out.add(node.toUser());
+        }
+        if (index + 1 < to) {
+            collect(node.right, from, to, index + 1, out);
+        }
+    }
+
+    private static Node insert(Node node, Node added) {
+        added.left = null;
+        added.right = null;
+        added.size = 1;
+        Node[] parts = split(node, added);
+        return merge(merge(parts[0], added), parts[1]);
+    }
+
+    private static Node delete(Node node, Node removed) {
+        if (node == null) {
+            return null;
+        }
+        if (node == removed) {
+            return merge(node.left, node.right);
+        }
+        if (before(removed, node)) {
+            node.left = delete(node.left, removed);
+        } else {
+            node.right = delete(node.right, removed);
+        }
+        node.size = size(node.left) + size(node.right) + 1;
+        return node;
+    }
+
+    private static Node[] split(Node node, Node key) {
+        if (node == null) {
+            return new Node[2];
+        }
+        if (before(node, key)) {
+            Node[] parts = split(node.right, key);
+            node.right = parts[0];
+            node.size = size(node.left) + size(node.right) + 1;
+            parts[0] = node;
+            return parts;
+        }
+        Node[] parts = split(node.left, key);
+        node.left = parts[1];
+        node.size = size(node.left) + size(node.right) + 1;
+        parts[1] = node;
+        return parts;
+    }
+
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.size = size(left.left) + size(left.right) + 1;
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.size = size(right.left) + size(right.right) + 1;
+        return right;
+    }
+
+    private static boolean before(Node a, Node b) {
+        if (a.score != b.score) {
+            return a.score > b.score;
+        }
+        return a.userId < b.userId;
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static class Node {
+        private final long userId;
+        private final String name;
+        private final int score;
+        private final long version;
+        private final int priority;
+        private final boolean removed;
+        private Node left;
+        private Node right;
+        private int size = 1;
+
+        private Node(long userId, String name, int score, long version, int priority, boolean removed) {
+            this.userId = userId;
+            this.name = name;
+            this.score = score;
+            this.version = version;
+            this.priority = priority;
+            this.removed = removed;
+        }
+
+        private User toUser() {
+            User user = new User();
+            user.setUserId(userId);
+            user.setName(name);
+            user.setScore(score);
+            return user;
+        }
+    }
+}
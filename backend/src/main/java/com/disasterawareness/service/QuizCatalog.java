@@ -0,0 +1,175 @@
+package com.disasterawareness.service;
+
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.disasterawareness.dao.QuizDAO;
+import com.disasterawareness.dao.QuizDAOImpl;
+import com.disasterawareness.model.AnswerChoice;
+import com.disasterawareness.model.PublicQuiz;
+import com.disasterawareness.model.Question;
+import com.disasterawareness.model.Quiz;
+import com.disasterawareness.utils.JsonCodec;
+
+public class QuizCatalog {
+    private static final long VERSION_CHECK_INTERVAL_MILLIS = 30_000;
+    private static final long MAX_AGE_MILLIS = 600_000;
+
+    private static volatile QuizCatalog shared;
+
+    private final QuizDAO quizDAO;
+    private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+    private volatile String version;
+    private volatile long lastVersionCheck;
+    private volatile long generation;
+
+    public QuizCatalog(QuizDAO quizDAO) {
+        this.quizDAO = quizDAO;
+    }
+
+    public static QuizCatalog shared() {
+        QuizCatalog current = shared;
+        if (current == null) {
+            synchronized (QuizCatalog.class) {
+                current = shared;
+                if (current == null) {
+                    current = new QuizCatalog(new QuizDAOImpl());
+                    shared = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    public Entry get(Long quizId) throws SQLException {
+        checkVersion();
+
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(quizId);
+        if (entry != null && now - entry.loadedAt < MAX_AGE_MILLIS) {
+            return entry;
+        }
+
+        long loadingGeneration = generation;
+        Quiz quiz = quizDAO.getQuizById(quizId);
+        if (quiz == null) {
+            entries.remove(quizId);
+            return null;
+        }
+
+        entry = new Entry(quiz, AnswerKey.compile(quiz), serializePublic(quiz), now);
+        if (loadingGeneration == generation) {
+            entries.put(quizId, entry);
+        }
+        return entry;
+    }
+
+    public synchronized void invalidateAll() {
+        generation++;
+        entries.clear();
+        version = null;
+        lastVersionCheck = 0;
+    }
+
+    private static byte[] serializePublic(Quiz quiz) {
+        return JsonCodec.toBytes(PublicQuiz.from(quiz));
+    }
+
+    private void checkVersion() throws SQLException {
+        long now = System.currentTimeMillis();
+        if (now - lastVersionCheck < VERSION_CHECK_INTERVAL_MILLIS) {
+            return;
+        }
+
+        synchronized (this) {
+            if (now - lastVersionCheck < VERSION_CHECK_INTERVAL_MILLIS) {
+                return;
+            }
+            String current = quizDAO.getCatalogVersion();
+            if (version != null && !version.equals(current)) {
+                generation++;
+                entries.clear();
+            }
+            version = current;
+            lastVersionCheck = now;
+        }
+    }
+
+    public static class Entry {
+        private final Quiz quiz;
+        private final AnswerKey answerKey;
+        private final byte[] publicJson;
+        private final long loadedAt;
+
+        private Entry(Quiz quiz, AnswerKey answerKey, byte[] publicJson, long loadedAt) {
+            this.quiz = quiz;
+            this.answerKey = answerKey;
+            this.publicJson = publicJson;
+            this.loadedAt = loadedAt;
+        }
+
+        public Quiz getQuiz() {
+            return quiz;
+        }
+
+        public AnswerKey getAnswerKey() {
+            return answerKey;
+        }
+
+        public byte[] getPublicJson() {
+            return publicJson;
+        }
+    }
+
+    public static class AnswerKey {
+        private final long[] questionIds;
+        private final long[] correctChoiceIds;
+        private final int[] points;
+
+        private AnswerKey(long[] questionIds, long[] correctChoiceIds, int[] points) {
+            this.questionIds = questionIds;
+            this.correctChoiceIds = correctChoiceIds;
+            this.points = points;
+        }
+
+        static AnswerKey compile(Quiz quiz) {
+            List<Question> questions = quiz.getQuestions();
+            int size = questions == null ? 0 : questions.size();
+            long[] questionIds = new long[size];
+            long[] correctChoiceIds = new long[size];
+            int[] points = new int[size];
+
+            for (int i = 0; i < size; i++) {
+                Question question = questions.get(i);
+                questionIds[i] = question.getQuestionId();
+                points[i] = question.getPoints() == null ? 0 : question.getPoints();
+                correctChoiceIds[i] = -1;
+                for (AnswerChoice choice : question.getAnswerChoices()) {
+                    if (Boolean.TRUE.equals(choice.getIsCorrect())) {
+                        correctChoiceIds[i] = choice.getChoiceId();
+                        break;
+                    }
+                }
+            }
+            return new AnswerKey(questionIds, correctChoiceIds, points);
+        }
+
+        public int size() {
+            return questionIds.length;
+        }
+
+        public Map<Long, Integer> pointsForCorrectAnswers(Map<Long, Long> submittedAnswers) {
+            Map<Long, Integer> pointsByQuestion = new LinkedHashMap<>();
+            for (int i = 0; i < questionIds.length; i++) {
+                Long submittedChoiceId = submittedAnswers.get(questionIds[i]);
+                if (submittedChoiceId != null && submittedChoiceId == correctChoiceIds[i]) {
+                    pointsByQuestion.put(questionIds[i], points[i]);
+                }
+            }
+            return pointsByQuestion;
+        }
+    }
+}
@@ -3,64 +3,128 @@ package com.disasterawareness.service;
 import java.sql.SQLException;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 import com.disasterawareness.dao.QuizDAO;
 import com.disasterawareness.dao.QuizDAOImpl;
 import com.disasterawareness.model.AnswerChoice;
+import com.disasterawareness.model.Page;
+import com.disasterawareness.model.Question;
 import com.disasterawareness.model.Quiz;
+import com.disasterawareness.utils.ConnectionFactory;
+import com.disasterawareness.utils.PageRequest;
 
 public class QuizService {
+    private static final int DEFAULT_QUESTION_POINTS = 10;
 
     private QuizDAO quizDAO;
     private UserService userService;
+    private QuizCatalog quizCatalog;
 
     public QuizService() {
         this.quizDAO = new QuizDAOImpl();
         this.userService = new UserService();
+        this.quizCatalog = QuizCatalog.shared();
     }
 
     public List<Quiz> getAllQuizzes() throws SQLException {
         return quizDAO.getAllQuizzes();
     }
 
+    public Page<Quiz> getQuizPage(PageRequest pageRequest) throws SQLException {
+        List<Quiz> rows = quizDAO.getQuizPage(pageRequest.getAfter(), pageRequest.getFetchSize());
+        return Page.of(rows, pageRequest.getLimit(), Quiz::getQuizId);
+    }
+
     public Quiz getQuizById(Long quizId) throws SQLException {
-        return quizDAO.getQuizById(quizId);
+        QuizCatalog.Entry entry = quizCatalog.get(quizId);
+        return entry == null ? null : entry.getQuiz();
     }
 
-    public int processQuizSubmission(Long quizId, Long userId, Map<Long, Long> submittedAnswers) throws SQLException {
+    public byte[] getPublicQuizJson(Long quizId) throws SQLException {
+        QuizCatalog.Entry entry = quizCatalog.get(quizId);
+        return entry == null ? null : entry.getPublicJson();
+    }
 
-        Quiz quiz = quizDAO.getQuizById(quizId);
-        if (quiz == null || quiz.getQuestions() == null || quiz.getQuestions().isEmpty()) {
-            return 0;
+    public void importQuizzes(List<Quiz> quizzes, int batchSize) throws SQLException {
+        if (batchSize <= 0 || batchSize > ImportService.MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException(
+                    "O tamanho do lote deve estar entre 1 e " + ImportService.MAX_BATCH_SIZE + ".");
         }
+        ConnectionFactory.inTransaction(() -> {
+            quizDAO.createAll(quizzes, batchSize);
+            return null;
+        });
+        quizCatalog.invalidateAll();
+    }
 
-        List<Long> questionIds = quiz.getQuestions().stream()
-                .map(q -> q.getQuestionId())
-                .collect(Collectors.toList());
+    public void validateQuiz(Quiz quiz) {
+        if (quiz.getTitle() == null || quiz.getTitle().trim().isEmpty()) {
+            throw new IllegalArgumentException("Título do quiz é obrigatório.");
+        }
 
-        List<AnswerChoice> correctChoices = quizDAO.getCorrectAnswerChoicesForQuestions(questionIds);
-        Map<Long, Long> correctChoiceMap = correctChoices.stream()
-                .collect(Collectors.toMap(
-                        AnswerChoice::getQuestionId,
-                        AnswerChoice::getChoiceId));
+        if (quiz.getDisasterType() == null || quiz.getDisasterType().trim().isEmpty()) {
+            throw new IllegalArgumentException("Tipo de desastre é obrigatório.");
+        }
 
-        int totalScoreEarnedThisSubmission = 0;
+        if (quiz.getQuestions() == null || quiz.getQuestions().isEmpty()) {
+            throw new IllegalArgumentException("O quiz deve ter pelo menos uma pergunta.");
+        }
+
+        for (Question question : quiz.getQuestions()) {
+            if (question.getQuestionText() == null || question.getQuestionText().trim().isEmpty()) {
+                throw new IllegalArgumentException("Texto da pergunta é obrigatório.");
+            }
 
-        for (com.disasterawareness.model.Question question : quiz.getQuestions()) {
-            Long submittedChoiceId = submittedAnswers.get(question.getQuestionId());
-            Long correctAnswerId = correctChoiceMap.get(question.getQuestionId());
+            if (question.getPoints() == null) {
+                question.setPoints(DEFAULT_QUESTION_POINTS);
+            } else if (question.getPoints() <= 0) {
+                throw new IllegalArgumentException("A pontuação da pergunta deve ser maior que zero.");
+            }
+
+            List<AnswerChoice> choices = question.getAnswerChoices();
+            if (choices == null || choices.size() < 2) {
+                throw new IllegalArgumentException("Cada pergunta deve ter pelo menos duas alternativas.");
+            }
 
-            if (submittedChoiceId != null && submittedChoiceId.equals(correctAnswerId)) {
-                if (!userService.hasUserEarnedPointsForQuestion(userId, question.getQuestionId())) {
-                    totalScoreEarnedThisSubmission += question.getPoints();
-                    userService.recordUserEarnedPointsForQuestion(userId, question.getQuestionId());
+            long correct = 0;
+            for (AnswerChoice choice : choices) {
+                if (choice.getChoiceText() == null || choice.getChoiceText().trim().isEmpty()) {
+                    throw new IllegalArgumentException("Texto da alternativa é obrigatório.");
                 }
+                if (Boolean.TRUE.equals(choice.getIsCorrect())) {
+                    correct++;
+                }
+            }
+            if (correct != 1) {
+                throw new IllegalArgumentException("Cada pergunta deve ter exatamente uma alternativa correta.");
+            }
+        }
+    }
+
+    public int processQuizSubmission(Long quizId, Long userId, Map<Long, Long> submittedAnswers) throws SQLException {
+        return ConnectionFactory.inTransaction(() -> scoreSubmission(quizId, userId, submittedAnswers));
+    }
+
+    private int scoreSubmission(Long quizId, Long userId, Map<Long, Long> submittedAnswers) throws SQLException {
+        QuizCatalog.Entry entry = quizCatalog.get(quizId);
+        if (entry == null || entry.getAnswerKey().size() == 0) {
+            return 0;
+        }
+
+        Map<Long, Integer> pointsByCorrectQuestion = entry.getAnswerKey().pointsForCorrectAnswers(submittedAnswers);
+
+        int totalScoreEarnedThisSubmission = 0;
+        if (!pointsByCorrectQuestion.isEmpty()) {
+            Set<Long> newlyEarned = userService.recordUserEarnedPointsForQuestions(userId,
+                    pointsByCorrectQuestion.keySet());
+            for (Long questionId : newlyEarned) {
+                totalScoreEarnedThisSubmission += pointsByCorrectQuestion.get(questionId);
             }
         }
 
         if (totalScoreEarnedThisSubmission > 0) {
-            userService.updateUserScore(userId, totalScoreEarnedThisSubmission);
+            userService.incrementUserScore(userId, totalScoreEarnedThisSubmission);
         }
 
         return totalScoreEarnedThisSubmission;
@@ -69,5 +133,6 @@ public class QuizService {
     public QuizService(QuizDAO quizDAO, UserService userService) {
         this.quizDAO = quizDAO;
         this.userService = userService;
+        this.quizCatalog = new QuizCatalog(quizDAO);
     }
 }
\ No newline at end of file
@@ -1,15 +1,31 @@
 package com.disasterawareness.service;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 import com.disasterawareness.model.Kit;
+import com.disasterawareness.utils.JsonCodec;
 import com.google.gson.Gson;
 import com.google.gson.annotations.SerializedName;
 
 public class RecommendedItemsService {
-
-    private final Gson gson = new Gson();
+    private static final String WATER_PLACEHOLDER = "@@AGUA@@";
+    private static final String[] REGIONS = { null, "southeast", "northeast" };
+    private static final String[] HOUSE_TYPES = { null, "house", "apartment" };
+    private static final int CACHE_SIZE = 512;
+
+    private static final Gson GSON = JsonCodec.gson();
+    private static final Template[] TEMPLATES = buildTemplates();
+    private static final Map<Long, CachedItems> CACHE = new LinkedHashMap<Long, CachedItems>(
+            CACHE_SIZE * 4 / 3 + 1, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, CachedItems> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
 
     private static class RecommendedItem {
         @SerializedName("name")
@@ -23,36 +39,110 @@ public class RecommendedItemsService {
         }
     }
 
-    public String generateRecommendedItems(Kit kit) {
-        List<RecommendedItem> items = new ArrayList<>();
+    private static class Template {
+        private final String head;
+        private final String tail;
+
+        private Template(String head, String tail) {
+            this.head = head;
+            this.tail = tail;
+        }
+    }
 
-        addBasicItems(items, kit.getResidents());
+    private static class CachedItems {
+        private final Locale locale;
+        private final String json;
 
-        if (kit.getHasChildren()) {
-            addChildrenItems(items);
+        private CachedItems(Locale locale, String json) {
+            this.locale = locale;
+            this.json = json;
+        }
+    }
+
+    public String generateRecommendedItems(Kit kit) {
+        int residents = kit.getResidents();
+        int templateIndex = templateIndex(kit.getHasChildren(), kit.getHasElderly(), kit.getHasPets(),
+                indexOf(REGIONS, kit.getRegion()), indexOf(HOUSE_TYPES, kit.getHouseType()));
+        long key = ((long) templateIndex << 32) | (residents & 0xffffffffL);
+
+        Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+        synchronized (CACHE) {
+            CachedItems cached = CACHE.get(key);
+            if (cached != null && cached.locale.equals(locale)) {
+                return cached.json;
+            }
         }
 
-        if (kit.getHasElderly()) {
-            addElderlyItems(items);
+        Template template = TEMPLATES[templateIndex];
+        String json = template.head + GSON.toJson(waterDescription(locale, residents)) + template.tail;
+
+        synchronized (CACHE) {
+            CACHE.put(key, new CachedItems(locale, json));
         }
+        return json;
+    }
 
-        if (kit.getHasPets()) {
-            addPetItems(items);
+    private static Template[] buildTemplates() {
+        Template[] templates = new Template[2 * 2 * 2 * REGIONS.length * HOUSE_TYPES.length];
+        String placeholder = GSON.toJson(WATER_PLACEHOLDER);
+        for (int flags = 0; flags < 8; flags++) {
+            boolean hasChildren = (flags & 1) != 0;
+            boolean hasElderly = (flags & 2) != 0;
+            boolean hasPets = (flags & 4) != 0;
+            for (int region = 0; region < REGIONS.length; region++) {
+                for (int houseType = 0; houseType < HOUSE_TYPES.length; houseType++) {
+                    List<RecommendedItem> items = new ArrayList<>();
+                    addBasicItems(items, WATER_PLACEHOLDER);
+                    if (hasChildren) {
+                        addChildrenItems(items);
+                    }
+                    if (hasElderly) {
+                        addElderlyItems(items);
+                    }
+                    if (hasPets) {
+                        addPetItems(items);
+                    }
+                    addRegionItems(items, REGIONS[region]);
+                    addHouseTypeItems(items, HOUSE_TYPES[houseType]);
+
+                    String json = GSON.toJson(items);
+                    int at = json.indexOf(placeholder);
+                    templates[templateIndex(hasChildren, hasElderly, hasPets, region, houseType)] = new Template(
+                            json.substring(0, at), json.substring(at + placeholder.length()));
+                }
+            }
         }
+        return templates;
+    }
 
-        addRegionItems(items, kit.getRegion());
-        addHouseTypeItems(items, kit.getHouseType());
+    private static int templateIndex(boolean hasChildren, boolean hasElderly, boolean hasPets, int region,
+            int houseType) {
+        int flags = (hasChildren ? 1 : 0) | (hasElderly ? 2 : 0) | (hasPets ? 4 : 0);
+        return (flags * REGIONS.length + region) * HOUSE_TYPES.length + houseType;
+    }
 
-        return gson.toJson(items);
+    private static int indexOf(String[] values, String value) {
+        if (value != null) {
+            String normalized = value.toLowerCase();
+            for (int i = 1; i < values.length; i++) {
+                if (values[i].equals(normalized)) {
+                    return i;
+                }
+            }
+        }
+        return 0;
     }
 
-    private void addBasicItems(List<RecommendedItem> items, int residents) {
-        items.add(new RecommendedItem("Água", String.format(
+    private static String waterDescription(Locale locale, int residents) {
+        return String.format(locale,
                 "Estoque de água para \\~%.1f litros por pessoa. Essencial para hidratação em emergências prolongadas.",
-                residents * 4.0)));
-        items.add(new RecommendedItem("Comida não perecível", String.format(
-                "Suprimento para \\~3 dias por pessoa. Escolha itens fáceis de preparar que não necessitem de refrigeração.",
-                residents * 3)));
+                residents * 4.0);
+    }
+
+    private static void addBasicItems(List<RecommendedItem> items, String waterDescription) {
+        items.add(new RecommendedItem("Água", waterDescription));
+        items.add(new RecommendedItem("Comida não perecível",
+                "Suprimento para \\~3 dias por pessoa. Escolha itens fáceis de preparar que não necessitem de refrigeração."));
         items.add(new RecommendedItem("Kit de Primeiros Socorros",
                 "Um kit completo com bandagens, antissépticos, analgésicos e medicamentos pessoais."));
         items.add(new RecommendedItem("Lanterna e pilhas extras", "Para iluminação em caso de falta de energia."));
@@ -66,19 +156,19 @@ public class RecommendedItemsService {
         items.add(new RecommendedItem("Telefone celular com carregadores portáteis", "Para comunicação."));
     }
 
-    private void addChildrenItems(List<RecommendedItem> items) {
+    private static void addChildrenItems(List<RecommendedItem> items) {
         items.add(new RecommendedItem("Suprimentos para bebês/crianças",
                 "Inclui fraldas, lenços umedecidos, fórmula/comida para bebê, e medicamentos específicos."));
         items.add(new RecommendedItem("Jogos ou livros", "Para ajudar a manter as crianças calmas e ocupadas."));
     }
 
-    private void addElderlyItems(List<RecommendedItem> items) {
+    private static void addElderlyItems(List<RecommendedItem> items) {
         items.add(new RecommendedItem("Medicamentos extras e equipamentos médicos",
                 "Certifique-se de ter um suprimento extra de medicamentos prescritos e quaisquer equipamentos médicos necessários."));
         items.add(new RecommendedItem("Óculos extras ou lentes de contato", "Se aplicável."));
     }
 
-    private void addPetItems(List<RecommendedItem> items) {
+    private static void addPetItems(List<RecommendedItem> items) {
         items.add(new RecommendedItem("Comida para pet e água", "Estoque suficiente para vários dias."));
         items.add(new RecommendedItem("Coleira, guia e identificação do pet",
                 "Para manter seu pet seguro e identificável."));
@@ -86,7 +176,7 @@ public class RecommendedItemsService {
         items.add(new RecommendedItem("Medicamentos para pet", "Se aplicável."));
     }
 
-    private void addRegionItems(List<RecommendedItem> items, String region) {
+    private static void addRegionItems(List<RecommendedItem> items, String region) {
         if (region != null) {
             switch (region.toLowerCase()) {
                 case "southeast":
@@ -100,7 +190,7 @@ public class RecommendedItemsService {
         }
     }
 
-    private void addHouseTypeItems(List<RecommendedItem> items, String houseType) {
+    private static void addHouseTypeItems(List<RecommendedItem> items, String houseType) {
         if (houseType != null) {
             switch (houseType.toLowerCase()) {
                 case "house":
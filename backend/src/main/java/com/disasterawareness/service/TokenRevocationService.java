@@ -0,0 +1,186 @@
+package com.disasterawareness.service;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import com.disasterawareness.dao.RevokedTokenDAO;
+import com.disasterawareness.dao.RevokedTokenDAOImpl;
+import com.disasterawareness.model.RevokedToken;
+import com.disasterawareness.utils.BloomFilter;
+import com.disasterawareness.utils.JwtUtil;
+
+public class TokenRevocationService {
+    private static final long REFRESH_INTERVAL_MILLIS = 30_000;
+    private static final int MIN_CAPACITY = 10_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final String USER_PREFIX = "user:";
+
+    private static volatile TokenRevocationService shared;
+
+    private final RevokedTokenDAO revokedTokenDAO;
+    private final Object refreshLock = new Object();
+    private volatile RevocationSet revocations;
+    private List<RevokedToken> revokedDuringRefresh;
+    private ScheduledExecutorService refreshExecutor;
+
+    public TokenRevocationService(RevokedTokenDAO revokedTokenDAO) {
+        this.revokedTokenDAO = revokedTokenDAO;
+    }
+
+    public static TokenRevocationService shared() {
+        TokenRevocationService current = shared;
+        if (current == null) {
+            synchronized (TokenRevocationService.class) {
+                current = shared;
+                if (current == null) {
+                    current = new TokenRevocationService(new RevokedTokenDAOImpl());
+                    shared = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    public void scheduleRefresh(Consumer<SQLException> onFailure) {
+        scheduleRefresh(REFRESH_INTERVAL_MILLIS, onFailure);
+    }
+
+    synchronized void scheduleRefresh(long intervalMillis, Consumer<SQLException> onFailure) {
+        if (refreshExecutor != null) {
+            return;
+        }
+        refreshExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "token-revocation-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        refreshExecutor.scheduleWithFixedDelay(() -> {
+            try {
+                refresh();
+            } catch (SQLException e) {
+                onFailure.accept(e);
+            }
+        }, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized void stopRefresh() {
+        if (refreshExecutor != null) {
+            refreshExecutor.shutdownNow();
+            refreshExecutor = null;
+        }
+    }
+
+    public void refresh() throws SQLException {
+        synchronized (refreshLock) {
+            synchronized (this) {
+                revokedDuringRefresh = new ArrayList<>();
+            }
+
+            RevocationSet loaded;
+            try {
+                loaded = load(System.currentTimeMillis());
+            } catch (SQLException e) {
+                synchronized (this) {
+                    revokedDuringRefresh = null;
+                }
+                throw e;
+            }
+
+            synchronized (this) {
+                for (RevokedToken token : revokedDuringRefresh) {
+                    loaded.add(token.getTokenId(), token.getRevokedAt().getTime());
+                }
+                revokedDuringRefresh = null;
+                revocations = loaded;
+            }
+        }
+    }
+
+    public boolean isRevoked(String tokenId, Long userId, Date issuedAt) throws SQLException {
+        RevocationSet current = current();
+
+        if (tokenId != null && current.bloom.mightContain(tokenId) && current.revokedAt.containsKey(tokenId)) {
+            return true;
+        }
+
+        if (userId != null) {
+            String userKey = USER_PREFIX + userId;
+            if (current.bloom.mightContain(userKey)) {
+                Long revokedAt = current.revokedAt.get(userKey);
+                return revokedAt != null && (issuedAt == null || issuedAt.getTime() / 1000 <= revokedAt / 1000);
+            }
+        }
+        return false;
+    }
+
+    public void revokeToken(String tokenId, Date expiresAt) throws SQLException {
+        if (tokenId == null || tokenId.isEmpty()) {
+            throw new IllegalArgumentException("Token sem identificador não pode ser revogado.");
+        }
+        revoke(new RevokedToken(tokenId, new Date(), expiresAt));
+    }
+
+    public void revokeUserTokens(Long userId) throws SQLException {
+        long now = System.currentTimeMillis();
+        revoke(new RevokedToken(USER_PREFIX + userId, new Date(now),
+                new Date(now + JwtUtil.getExpirationMillis())));
+    }
+
+    private synchronized void revoke(RevokedToken token) throws SQLException {
+        revokedTokenDAO.revoke(token);
+        RevocationSet current = revocations;
+        if (current != null) {
+            current.add(token.getTokenId(), token.getRevokedAt().getTime());
+        }
+        if (revokedDuringRefresh != null) {
+            revokedDuringRefresh.add(token);
+        }
+    }
+
+    private RevocationSet current() throws SQLException {
+        RevocationSet current = revocations;
+        if (current != null) {
+            return current;
+        }
+
+        synchronized (refreshLock) {
+            if (revocations == null) {
+                refresh();
+            }
+            return revocations;
+        }
+    }
+
+    private RevocationSet load(long now) throws SQLException {
+        Date cutoff = new Date(now);
+        revokedTokenDAO.deleteExpired(cutoff);
+        List<RevokedToken> tokens = revokedTokenDAO.findActive(cutoff);
+
+        RevocationSet loaded = new RevocationSet(Math.max(MIN_CAPACITY, tokens.size() * 2));
+        for (RevokedToken token : tokens) {
+            loaded.add(token.getTokenId(), token.getRevokedAt().getTime());
+        }
+        return loaded;
+    }
+
+    private static class RevocationSet {
+        private final BloomFilter bloom;
+        private final ConcurrentHashMap<String, Long> revokedAt = new ConcurrentHashMap<>();
+
+        private RevocationSet(int capacity) {
+            this.bloom = new BloomFilter(capacity, FALSE_POSITIVE_RATE);
+        }
+
+        private void add(String tokenId, long revokedAtMillis) {
+            revokedAt.put(tokenId, revokedAtMillis);
+            bloom.add(tokenId);
+        }
+    }
+}
@@ -1,24 +1,37 @@
 package com.disasterawareness.service;
 
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
+import com.disasterawareness.dao.RowHandler;
 import com.disasterawareness.dao.UserDAO;
 import com.disasterawareness.dao.UserDAOImpl;
 import com.disasterawareness.dao.UserEarnedQuestionPointsDAO;
 import com.disasterawareness.dao.UserEarnedQuestionPointsDAOImpl;
+import com.disasterawareness.model.LeaderboardPosition;
+import com.disasterawareness.model.Page;
 import com.disasterawareness.model.User;
+import com.disasterawareness.utils.ConnectionFactory;
+import com.disasterawareness.utils.PageRequest;
 
 public class UserService {
+    public static final int DEFAULT_LEADERBOARD_WINDOW = 5;
+    public static final int MAX_LEADERBOARD_WINDOW = 50;
+
     private final UserDAO userDAO;
     private final UserEarnedQuestionPointsDAO userEarnedQuestionPointsDAO;
+    private final Leaderboard leaderboard;
 
     public UserService() {
         this.userDAO = new UserDAOImpl();
         this.userEarnedQuestionPointsDAO = new UserEarnedQuestionPointsDAOImpl();
+        this.leaderboard = Leaderboard.shared();
     }
 
     public User registerUser(String name, String email, String password) throws SQLException {
@@ -28,8 +41,10 @@ public class UserService {
 
         String passwordHash = generatePasswordHash(password);
 
-        User user = new User(name, email, passwordHash);
-        return userDAO.create(user);
+        User user = userDAO.create(new User(name, email, passwordHash));
+        leaderboard.put(user.getUserId(), user.getName(), user.getScore() == null ? 0 : user.getScore(),
+                leaderboard.nextVersion());
+        return user;
     }
 
     public User login(String email, String password) throws SQLException {
@@ -57,13 +72,30 @@ public class UserService {
         return userDAO.findAll();
     }
 
+    public void streamAllUsers(RowHandler<User> handler) throws SQLException, IOException {
+        userDAO.streamAll(handler);
+    }
+
+    public Page<User> getUserPage(PageRequest pageRequest) throws SQLException {
+        List<User> rows = userDAO.findPage(pageRequest.getAfter(), pageRequest.getFetchSize());
+        return Page.of(rows, pageRequest.getLimit(), User::getUserId);
+    }
+
     public User updateUser(User user) throws SQLException {
         User existingUser = userDAO.findById(user.getUserId());
         if (existingUser == null) {
             throw new IllegalArgumentException("Usuário não encontrado.");
         }
+        if (user.getIsAdmin() == null) {
+            user.setIsAdmin(existingUser.getIsAdmin());
+        }
 
-        return userDAO.update(user);
+        User updatedUser = userDAO.update(user);
+        leaderboard.rename(updatedUser.getUserId(), updatedUser.getName());
+        if (!Boolean.TRUE.equals(updatedUser.getIsAdmin()) && Boolean.TRUE.equals(existingUser.getIsAdmin())) {
+            TokenRevocationService.shared().revokeUserTokens(updatedUser.getUserId());
+        }
+        return updatedUser;
     }
 
     public boolean deleteUser(Long userId) throws SQLException {
@@ -72,18 +104,35 @@ public class UserService {
             throw new IllegalArgumentException("Usuário não encontrado.");
         }
 
-        return userDAO.delete(userId);
+        boolean deleted = userDAO.delete(userId);
+        if (deleted) {
+            leaderboard.remove(userId);
+            TokenRevocationService.shared().revokeUserTokens(userId);
+        }
+        return deleted;
     }
 
     public User updateUserScore(Long userId, Integer score) throws SQLException {
-        User user = userDAO.findById(userId);
-        if (user == null) {
+        incrementUserScore(userId, score);
+        return getUserById(userId);
+    }
+
+    public int incrementUserScore(Long userId, int score) throws SQLException {
+        Integer newScore = userDAO.incrementScore(userId, score);
+        if (newScore == null) {
             throw new IllegalArgumentException("Usuário não encontrado.");
         }
 
-        Integer newScore = user.getScore() + score;
-
-        return userDAO.updateScore(userId, newScore);
+        long version = leaderboard.nextVersion();
+        if (leaderboard.tracks(userId)) {
+            ConnectionFactory.afterCommit(() -> leaderboard.setScore(userId, newScore, version));
+        } else {
+            User existing = userDAO.findById(userId);
+            if (existing != null) {
+                ConnectionFactory.afterCommit(() -> leaderboard.put(userId, existing.getName(), newScore, version));
+            }
+        }
+        return newScore;
     }
 
     public User addCompletedQuiz(Long userId, Long quizId) throws SQLException {
@@ -96,15 +145,38 @@ public class UserService {
     }
 
     public List<User> getLeaderboard() throws SQLException {
-        return userDAO.getLeaderboard();
+        return leaderboard.top(PageRequest.MAX_LIMIT);
+    }
+
+    public Page<User> getLeaderboardPage(PageRequest pageRequest) throws SQLException {
+        List<User> rows = pageRequest.getAfter() == 0
+                ? leaderboard.top(pageRequest.getFetchSize())
+                : leaderboard.after(pageRequest.getAfter(), pageRequest.getFetchSize());
+        return Page.of(rows, pageRequest.getLimit(), User::getUserId);
     }
 
-    public boolean hasUserEarnedPointsForQuestion(Long userId, Long questionId) throws SQLException {
-        return userEarnedQuestionPointsDAO.hasUserEarnedPointsForQuestion(userId, questionId);
+    public Page<User> getLeaderboardByRank(int offset, int limit) throws SQLException {
+        if (offset < 0) {
+            throw new IllegalArgumentException("Parâmetros de paginação inválidos.");
+        }
+        List<User> rows = leaderboard.range(offset, limit + 1);
+        if (rows.size() <= limit) {
+            return new Page<>(rows, null);
+        }
+        return new Page<>(rows.subList(0, limit), (long) offset + limit);
+    }
+
+    public LeaderboardPosition getLeaderboardPosition(Long userId, int window) throws SQLException {
+        if (window < 0 || window > MAX_LEADERBOARD_WINDOW) {
+            throw new IllegalArgumentException(
+                    "O parâmetro window deve estar entre 0 e " + MAX_LEADERBOARD_WINDOW + ".");
+        }
+        return leaderboard.positionOf(userId, window);
     }
 
-    public void recordUserEarnedPointsForQuestion(Long userId, Long questionId) throws SQLException {
-        userEarnedQuestionPointsDAO.recordUserEarnedPointsForQuestion(userId, questionId);
+    public Set<Long> recordUserEarnedPointsForQuestions(Long userId, Collection<Long> questionIds)
+            throws SQLException {
+        return userEarnedQuestionPointsDAO.recordUserEarnedPointsForQuestions(userId, questionIds);
     }
 
     private String generatePasswordHash(String password) {
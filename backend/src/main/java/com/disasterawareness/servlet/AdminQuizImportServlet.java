@@ -0,0 +1,95 @@
+package com.disasterawareness.servlet;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.servlet.ServletException;
+import javax.servlet.annotation.WebServlet;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import com.disasterawareness.model.ImportReport;
+import com.disasterawareness.model.Quiz;
+import com.disasterawareness.service.ImportService;
+import com.disasterawareness.service.QuizService;
+import com.disasterawareness.utils.JsonCodec;
+import com.disasterawareness.utils.JsonRecordReader;
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+
+@WebServlet("/api/admin/quizzes/import")
+public class AdminQuizImportServlet extends HttpServlet {
+
+    private QuizService quizService;
+    private Gson gson;
+
+    @Override
+    public void init() throws ServletException {
+        super.init();
+        this.quizService = new QuizService();
+        this.gson = JsonCodec.gson();
+    }
+
+    @Override
+    protected void doPost(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+        response.setContentType("application/json");
+        response.setCharacterEncoding("UTF-8");
+
+        try {
+            int batchSize = request.getParameter("batchSize") != null
+                    ? Integer.parseInt(request.getParameter("batchSize"))
+                    : ImportService.DEFAULT_BATCH_SIZE;
+
+            ImportReport report = new ImportReport();
+            List<Quiz> quizzes = new ArrayList<>();
+            List<ImportReport.RowResult> results = new ArrayList<>();
+
+            JsonRecordReader records = new JsonRecordReader(request.getReader());
+            JsonElement record;
+            int row = 0;
+            while ((record = records.next()) != null) {
+                row++;
+                try {
+                    if (!record.isJsonObject()) {
+                        throw new IllegalArgumentException("Registro deve ser um objeto JSON.");
+                    }
+                    Quiz quiz = gson.fromJson(record, Quiz.class);
+                    quizService.validateQuiz(quiz);
+                    quizzes.add(quiz);
+                    results.add(report.accept(row));
+                } catch (JsonParseException e) {
+                    report.reject(row, "Quiz inválido: " + e.getMessage());
+                } catch (IllegalArgumentException e) {
+                    report.reject(row, e.getMessage());
+                }
+            }
+
+            quizService.importQuizzes(quizzes, batchSize);
+            for (int i = 0; i < quizzes.size(); i++) {
+                results.get(i).setId(quizzes.get(i).getQuizId());
+            }
+
+            response.setStatus(HttpServletResponse.SC_OK);
+            JsonCodec.write(response, report);
+
+        } catch (NumberFormatException e) {
+            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            JsonCodec.write(response, "Tamanho de lote inválido.");
+        } catch (JsonParseException e) {
+            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            JsonCodec.write(response, "JSON inválido: " + e.getMessage());
+        } catch (IllegalArgumentException e) {
+            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            JsonCodec.write(response, e.getMessage());
+        } catch (SQLException e) {
+            e.printStackTrace();
+            response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+            JsonCodec.write(response, "Erro ao importar quizzes");
+        }
+    }
+}
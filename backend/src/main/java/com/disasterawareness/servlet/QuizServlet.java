@@ -12,19 +12,20 @@ import javax.servlet.http.HttpServletResponse;
 
 import com.disasterawareness.model.Quiz;
 import com.disasterawareness.service.QuizService;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.disasterawareness.utils.ApiRoutes;
+import com.disasterawareness.utils.JsonCodec;
+import com.disasterawareness.utils.PageRequest;
+import com.disasterawareness.utils.RouteMatch;
 
 @WebServlet("/api/quizzes/*")
 public class QuizServlet extends HttpServlet {
 
     private QuizService quizService;
-    private ObjectMapper objectMapper;
 
     @Override
     public void init() throws ServletException {
         super.init();
         this.quizService = new QuizService();
-        this.objectMapper = new ObjectMapper();
     }
 
     @Override
@@ -33,40 +34,43 @@ public class QuizServlet extends HttpServlet {
         response.setContentType("application/json");
         response.setCharacterEncoding("UTF-8");
 
-        String pathInfo = request.getPathInfo();
+        RouteMatch route = ApiRoutes.match(request);
 
         try {
-            if (pathInfo == null || pathInfo.equals("/")) {
-                List<Quiz> quizzes = quizService.getAllQuizzes();
-                objectMapper.writeValue(response.getWriter(), quizzes);
+            if (route == null) {
+                response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+                JsonCodec.write(response, "Formado de ID de quiz inválido");
+            } else if (route.is(ApiRoutes.QUIZ_LIST)) {
+                PageRequest pageRequest = PageRequest.from(request);
+                if (pageRequest != null) {
+                    JsonCodec.write(response, quizService.getQuizPage(pageRequest));
+                } else {
+                    List<Quiz> quizzes = quizService.getAllQuizzes();
+                    JsonCodec.write(response, quizzes);
+                }
             } else {
-                String[] splits = pathInfo.split("/");
-                if (splits.length == 2) {
-                    Long quizId = Long.parseLong(splits[1]);
-                    Quiz quiz = quizService.getQuizById(quizId);
+                Long quizId = route.getLong("id");
+                byte[] quiz = quizService.getPublicQuizJson(quizId);
 
-                    if (quiz != null) {
-                        objectMapper.writeValue(response.getWriter(), quiz);
-                    } else {
-                        response.setStatus(HttpServletResponse.SC_NOT_FOUND);
-                        objectMapper.writeValue(response.getWriter(), "Quiz não encontrado");
-                    }
+                if (quiz != null) {
+                    response.setContentLength(quiz.length);
+                    response.getOutputStream().write(quiz);
                 } else {
-                    response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-                    objectMapper.writeValue(response.getWriter(), "Formado de ID de quiz inválido");
+                    response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+                    JsonCodec.write(response, "Quiz não encontrado");
                 }
             }
-        } catch (NumberFormatException e) {
+        } catch (IllegalArgumentException e) {
             response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-            objectMapper.writeValue(response.getWriter(), "Formado de ID de quiz inválido");
+            JsonCodec.write(response, e.getMessage());
         } catch (SQLException e) {
             e.printStackTrace();
             response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
-            objectMapper.writeValue(response.getWriter(), "Erro ao trazer os quizzes");
+            JsonCodec.write(response, "Erro ao trazer os quizzes");
         } catch (Exception e) {
             e.printStackTrace();
             response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
-            objectMapper.writeValue(response.getWriter(), "Um erro inesperado ocorreu");
+            JsonCodec.write(response, "Um erro inesperado ocorreu");
         }
     }
 }
\ No newline at end of file
@@ -3,7 +3,6 @@ package com.disasterawareness.servlet;
 import java.io.IOException;
 import java.sql.SQLException;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.Map;
 
 import javax.servlet.ServletException;
@@ -13,20 +12,23 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import com.disasterawareness.service.QuizService;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.disasterawareness.utils.JsonCodec;
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
 
 @WebServlet("/api/quizzes/submit")
 public class QuizSubmissionServlet extends HttpServlet {
 
     private QuizService quizService;
-    private ObjectMapper objectMapper;
+    private Gson gson;
 
     @Override
     public void init() throws ServletException {
         super.init();
         this.quizService = new QuizService();
-        this.objectMapper = new ObjectMapper();
+        this.gson = JsonCodec.gson();
     }
 
     @Override
@@ -40,29 +42,29 @@ public class QuizSubmissionServlet extends HttpServlet {
 
             if (userId == null) {
                 response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-                objectMapper.writeValue(response.getWriter(), "Não autorizado: Usuário não autenticado");
+                JsonCodec.write(response, "Não autorizado: Usuário não autenticado");
                 return;
             }
 
-            JsonNode rootNode = objectMapper.readTree(request.getReader());
-            Long quizId = rootNode.get("quizId").asLong();
-            JsonNode submittedAnswersNode = rootNode.get("submittedAnswers");
+            JsonObject rootNode = gson.fromJson(request.getReader(), JsonObject.class);
+            JsonElement quizIdNode = rootNode == null ? null : rootNode.get("quizId");
+            JsonElement submittedAnswersNode = rootNode == null ? null : rootNode.get("submittedAnswers");
 
-            if (quizId == null || submittedAnswersNode == null || !submittedAnswersNode.isObject()) {
+            if (quizIdNode == null || quizIdNode.isJsonNull() || submittedAnswersNode == null
+                    || !submittedAnswersNode.isJsonObject()) {
                 response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-                objectMapper.writeValue(response.getWriter(), "Corpo da requisição inválido.");
+                JsonCodec.write(response, "Corpo da requisição inválido.");
                 return;
             }
+            Long quizId = quizIdNode.getAsLong();
 
             Map<Long, Long> submittedAnswers = new HashMap<>();
-            Iterator<Map.Entry<String, JsonNode>> fields = submittedAnswersNode.fields();
-            while (fields.hasNext()) {
-                Map.Entry<String, JsonNode> field = fields.next();
+            for (Map.Entry<String, JsonElement> field : submittedAnswersNode.getAsJsonObject().entrySet()) {
                 try {
                     Long questionId = Long.parseLong(field.getKey());
-                    Long choiceId = field.getValue().asLong();
+                    Long choiceId = field.getValue().getAsLong();
                     submittedAnswers.put(questionId, choiceId);
-                } catch (NumberFormatException e) {
+                } catch (NumberFormatException | UnsupportedOperationException | IllegalStateException e) {
                     System.err.println("Ignorando chave/valor de resposta na submissão: " + field.getKey() + " -> "
                             + field.getValue());
                 }
@@ -74,20 +76,23 @@ public class QuizSubmissionServlet extends HttpServlet {
             result.put("message", "Quiz enviado com sucesso");
             result.put("scoreEarned", scoreEarned);
 
-            objectMapper.writeValue(response.getWriter(), result);
+            JsonCodec.write(response, result);
 
+        } catch (JsonParseException e) {
+            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            JsonCodec.write(response, "Corpo da requisição inválido.");
         } catch (SQLException e) {
             e.printStackTrace();
             response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
-            objectMapper.writeValue(response.getWriter(), "Erro ao processar a submissão do quiz");
+            JsonCodec.write(response, "Erro ao processar a submissão do quiz");
         } catch (IOException e) {
             e.printStackTrace();
             response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
-            objectMapper.writeValue(response.getWriter(), "Erro ao ler o corpo da requisição");
+            JsonCodec.write(response, "Erro ao ler o corpo da requisição");
         } catch (Exception e) {
             e.printStackTrace();
             response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
-            objectMapper.writeValue(response.getWriter(), "Um erro inesperado ocorreu");
+            JsonCodec.write(response, "Um erro inesperado ocorreu");
         }
     }
 }
\ No newline at end of file
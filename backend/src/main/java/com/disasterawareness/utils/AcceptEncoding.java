@@ -0,0 +1,47 @@
+package com.disasterawareness.utils;
+
+public class AcceptEncoding {
+
+    public static boolean accepts(String header, String coding) {
+        if (header == null || header.isEmpty()) {
+            return false;
+        }
+
+        boolean wildcard = false;
+        for (String part : header.split(",")) {
+            String token = part.trim();
+            double quality = 1.0;
+
+            int semicolon = token.indexOf(';');
+            if (semicolon >= 0) {
+                quality = parseQuality(token.substring(semicolon + 1));
+                token = token.substring(0, semicolon).trim();
+            }
+
+            if (token.equalsIgnoreCase(coding)) {
+                return quality > 0;
+            }
+            if (token.equals("*")) {
+                wildcard = quality > 0;
+            }
+        }
+        return wildcard;
+    }
+
+    private static double parseQuality(String parameters) {
+        for (String parameter : parameters.split(";")) {
+            String trimmed = parameter.trim();
+            if (trimmed.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(trimmed.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1.0;
+    }
+
+    private AcceptEncoding() {
+    }
+}
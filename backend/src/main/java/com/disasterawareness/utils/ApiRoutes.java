@@ -0,0 +1,88 @@
+package com.disasterawareness.utils;
+
+import javax.servlet.http.HttpServletRequest;
+
+import com.disasterawareness.utils.Route.Access;
+
+public class ApiRoutes {
+    private static final String MATCH_ATTRIBUTE = ApiRoutes.class.getName() + ".match";
+
+    public static final Route LOGIN = new Route("POST", "/api/login", Access.PUBLIC);
+    public static final Route REGISTER = new Route("POST", "/api/register", Access.PUBLIC);
+    public static final Route LOGOUT = new Route("POST", "/api/logout", Access.AUTHENTICATED);
+
+    public static final Route LEADERBOARD = new Route("GET", "/api/leaderboard", Access.PUBLIC);
+    public static final Route LEADERBOARD_ME = new Route("GET", "/api/leaderboard/me", Access.AUTHENTICATED);
+
+    public static final Route CONTENT_LIST = new Route("GET", "/api/content", Access.PUBLIC);
+    public static final Route CONTENT_GET = new Route("GET", "/api/content/{id:long}", Access.PUBLIC);
+    public static final Route CONTENT_BY_DISASTER = new Route("GET", "/api/content/disaster/{type}", Access.PUBLIC);
+    public static final Route CONTENT_CREATE = new Route("POST", "/api/content", Access.AUTHENTICATED);
+    public static final Route CONTENT_UPDATE = new Route("PUT", "/api/content/{id:long}", Access.AUTHENTICATED);
+    public static final Route CONTENT_DELETE = new Route("DELETE", "/api/content/{id:long}", Access.AUTHENTICATED);
+
+    public static final Route KIT_LIST = new Route("GET", "/api/kit", Access.AUTHENTICATED);
+    public static final Route KIT_GET = new Route("GET", "/api/kit/{id:long}", Access.AUTHENTICATED);
+    public static final Route KIT_CREATE = new Route("POST", "/api/kit", Access.AUTHENTICATED);
+    public static final Route KIT_UPDATE = new Route("PUT", "/api/kit/{id:long}", Access.AUTHENTICATED);
+    public static final Route KIT_DELETE = new Route("DELETE", "/api/kit/{id:long}", Access.AUTHENTICATED);
+
+    public static final Route QUIZ_LIST = new Route("GET", "/api/quizzes", Access.PUBLIC);
+    public static final Route QUIZ_GET = new Route("GET", "/api/quizzes/{id:long}", Access.PUBLIC);
+    public static final Route QUIZ_SUBMIT = new Route("POST", "/api/quizzes/submit", Access.AUTHENTICATED);
+
+    public static final Route ADMIN_USER_LIST = new Route("GET", "/api/admin/users", Access.ADMIN);
+    public static final Route ADMIN_USER_GET = new Route("GET", "/api/admin/users/{id:long}", Access.ADMIN);
+    public static final Route ADMIN_USER_UPDATE = new Route("PUT", "/api/admin/users/{id:long}", Access.ADMIN);
+    public static final Route ADMIN_USER_DELETE = new Route("DELETE", "/api/admin/users/{id:long}", Access.ADMIN);
+    public static final Route ADMIN_USER_SCORE = new Route("PUT", "/api/admin/user/score", Access.ADMIN);
+    public static final Route ADMIN_IMPORT_KITS = new Route("POST", "/api/admin/import/kits", Access.ADMIN);
+    public static final Route ADMIN_IMPORT_CONTENT = new Route("POST", "/api/admin/import/content", Access.ADMIN);
+    public static final Route ADMIN_QUIZ_IMPORT = new Route("POST", "/api/admin/quizzes/import", Access.ADMIN);
+    public static final Route ADMIN_POOL = new Route("GET", "/api/admin/pool", Access.ADMIN);
+
+    private static final RouteTable TABLE = new RouteTable()
+            .add(LOGIN).add(REGISTER).add(LOGOUT)
+            .add(LEADERBOARD).add(LEADERBOARD_ME)
+            .add(CONTENT_LIST).add(CONTENT_GET).add(CONTENT_BY_DISASTER)
+            .add(CONTENT_CREATE).add(CONTENT_UPDATE).add(CONTENT_DELETE)
+            .add(KIT_LIST).add(KIT_GET).add(KIT_CREATE).add(KIT_UPDATE).add(KIT_DELETE)
+            .add(QUIZ_LIST).add(QUIZ_GET).add(QUIZ_SUBMIT)
+            .add(ADMIN_USER_LIST).add(ADMIN_USER_GET).add(ADMIN_USER_UPDATE).add(ADMIN_USER_DELETE)
+            .add(ADMIN_USER_SCORE).add(ADMIN_IMPORT_KITS).add(ADMIN_IMPORT_CONTENT).add(ADMIN_QUIZ_IMPORT)
+            .add(ADMIN_POOL);
+
+    public static RouteMatch match(HttpServletRequest request) {
+        Object cached = request.getAttribute(MATCH_ATTRIBUTE);
+        if (cached instanceof RouteMatch) {
+            return (RouteMatch) cached;
+        }
+
+        RouteMatch match = TABLE.match(request.getMethod(), path(request));
+        if (match != null) {
+            request.setAttribute(MATCH_ATTRIBUTE, match);
+        }
+        return match;
+    }
+
+    public static Access access(HttpServletRequest request) {
+        RouteMatch match = match(request);
+        if (match != null) {
+            return match.getRoute().getAccess();
+        }
+        String path = path(request);
+        return path.equals("/api/admin") || path.startsWith("/api/admin/") ? Access.ADMIN : Access.AUTHENTICATED;
+    }
+
+    static String path(HttpServletRequest request) {
+        String pathInfo = request.getPathInfo();
+        String path = pathInfo == null ? request.getServletPath() : request.getServletPath() + pathInfo;
+        if (path.length() > 1 && path.endsWith("/")) {
+            return path.substring(0, path.length() - 1);
+        }
+        return path;
+    }
+
+    private ApiRoutes() {
+    }
+}
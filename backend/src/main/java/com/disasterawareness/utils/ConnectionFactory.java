@@ -1,31 +1,126 @@
 package com.disasterawareness.utils;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
+import java.util.Properties;
+
+import javax.sql.DataSource;
 
 public class ConnectionFactory {
-    private static final String URL = "jdbc:oracle:thin:@oracle.fiap.com.br:1521:orcl";
-    private static final String USER = "rm553314";
-    private static final String PASSWORD = "171195";
+    private static final String PROPERTIES_FILE = "database.properties";
+    private static final String DEFAULT_BACKEND = "oracle";
+
+    private static volatile ConnectionPool pool;
+    private static volatile TransactionalDataSource dataSource;
+    private static volatile DatabaseBackend backend;
+
+    public static DataSource getDataSource() {
+        getPool();
+        return dataSource;
+    }
+
+    public static <T> T inTransaction(UnitOfWork<T> work) throws SQLException {
+        getPool();
+        return dataSource.inTransaction(work);
+    }
+
+    public static void afterCommit(Runnable callback) {
+        getPool();
+        dataSource.afterCommit(callback);
+    }
+
+    public static Connection getConnection() throws SQLException {
+        return getDataSource().getConnection();
+    }
+
+    public static DatabaseBackend getBackend() {
+        getPool();
+        return backend;
+    }
+
+    public static PoolStats getPoolStats() {
+        return getPool().getStats();
+    }
+
+    public static synchronized void shutdown() {
+        if (pool != null) {
+            pool.close();
+            pool = null;
+            dataSource = null;
+        }
+    }
+
+    private static ConnectionPool getPool() {
+        ConnectionPool current = pool;
+        if (current == null) {
+            synchronized (ConnectionFactory.class) {
+                current = pool;
+                if (current == null) {
+                    current = createPool();
+                    dataSource = new TransactionalDataSource(current);
+                    pool = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private static ConnectionPool createPool() {
+        Properties properties = loadProperties();
+        DatabaseBackend selected = createBackend(properties.getProperty("db.backend", DEFAULT_BACKEND));
 
-    static {
+        Properties effective = selected.getDefaults();
+        effective.putAll(properties);
+
+        ConnectionPool created = new ConnectionPool(new PoolConfig(effective), selected);
         try {
-            Class.forName("oracle.jdbc.driver.OracleDriver");
-            System.out.println("Conexão realizada!");
-        } catch (ClassNotFoundException e) {
-            throw new RuntimeException("Erro ao carregar o driver do Oracle: " + e.getMessage());
+            selected.initialize(created);
+            if (Boolean.parseBoolean(effective.getProperty("db.migrations.enabled", "true"))) {
+                new SchemaMigrator(created).migrate();
+            }
+        } catch (SQLException e) {
+            created.close();
+            throw new RuntimeException("Erro ao inicializar o banco de dados (" + selected.getName() + "): "
+                    + e.getMessage(), e);
+        }
+
+        backend = selected;
+        System.out.println("Conexão realizada! Backend de banco de dados: " + selected.getName());
+        return created;
+    }
+
+    private static DatabaseBackend createBackend(String name) {
+        switch (name.trim().toLowerCase()) {
+            case "oracle":
+                return new OracleBackend();
+            case "h2":
+                return new EmbeddedH2Backend();
+            default:
+                throw new IllegalArgumentException("Backend de banco de dados desconhecido: " + name);
         }
     }
 
-    public static Connection getConnection() throws SQLException {
-        Connection connection = DriverManager.getConnection(URL, USER, PASSWORD);
-        connection.setNetworkTimeout(Executors.newSingleThreadExecutor(), (int) TimeUnit.MINUTES.toMillis(5));
-        return connection;
+    private static Properties loadProperties() {
+        Properties properties = new Properties();
+
+        try (InputStream in = ConnectionFactory.class.getClassLoader().getResourceAsStream(PROPERTIES_FILE)) {
+            if (in != null) {
+                properties.load(in);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Erro ao ler " + PROPERTIES_FILE, e);
+        }
+
+        for (String name : System.getProperties().stringPropertyNames()) {
+            if (name.startsWith("db.")) {
+                properties.setProperty(name, System.getProperty(name));
+            }
+        }
+        return properties;
     }
 
     private ConnectionFactory() {
     }
-}
\ No newline at end of file
+}
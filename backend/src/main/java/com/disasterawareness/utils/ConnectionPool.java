@@ -0,0 +1,344 @@
+package com.disasterawareness.utils;
+
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+import javax.sql.DataSource;
+
+public class ConnectionPool implements DataSource {
+    private final PoolConfig config;
+    private final DatabaseBackend backend;
+    private final LinkedBlockingDeque<PhysicalConnection> idle = new LinkedBlockingDeque<>();
+    private final Semaphore permits;
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicLong created = new AtomicLong();
+    private final AtomicLong destroyed = new AtomicLong();
+    private final AtomicLong borrowed = new AtomicLong();
+    private final AtomicLong timeouts = new AtomicLong();
+    private final AtomicLong validationFailures = new AtomicLong();
+    private final AtomicLong statementCacheHits = new AtomicLong();
+    private final AtomicLong statementCacheMisses = new AtomicLong();
+    private final ExecutorService networkTimeoutExecutor;
+    private final ScheduledExecutorService maintenanceExecutor;
+    private volatile boolean closed;
+
+    public ConnectionPool(PoolConfig config, DatabaseBackend backend) {
+        this.config = config;
+        this.backend = backend;
+        this.permits = new Semaphore(config.getMaxSize(), true);
+        this.networkTimeoutExecutor = Executors.newCachedThreadPool(daemonThreads("db-network-timeout"));
+        this.maintenanceExecutor = Executors.newSingleThreadScheduledExecutor(daemonThreads("db-pool-maintenance"));
+
+        fillToMinimum();
+        maintenanceExecutor.scheduleWithFixedDelay(this::maintain, config.getEvictionIntervalMillis(),
+                config.getEvictionIntervalMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (closed) {
+            throw new SQLException("Pool de conexões encerrado.");
+        }
+
+        try {
+            if (!permits.tryAcquire(config.getMaxWaitMillis(), TimeUnit.MILLISECONDS)) {
+                timeouts.incrementAndGet();
+                throw new SQLException("Tempo esgotado aguardando conexão do pool (máximo de "
+                        + config.getMaxSize() + " conexões em uso).");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrompido aguardando conexão do pool.", e);
+        }
+
+        try {
+            PhysicalConnection physical = takeIdle();
+            if (physical == null) {
+                physical = open();
+            }
+            active.incrementAndGet();
+            borrowed.incrementAndGet();
+            return physical.newHandle();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("O pool usa as credenciais configuradas.");
+    }
+
+    public PoolStats getStats() {
+        return new PoolStats(active.get(), idle.size(), config.getMaxSize(), created.get(), destroyed.get(),
+                borrowed.get(), timeouts.get(), validationFailures.get(), statementCacheHits.get(),
+                statementCacheMisses.get());
+    }
+
+    public void close() {
+        closed = true;
+        maintenanceExecutor.shutdownNow();
+        PhysicalConnection physical;
+        while ((physical = idle.pollFirst()) != null) {
+            destroy(physical);
+        }
+        networkTimeoutExecutor.shutdownNow();
+    }
+
+    private PhysicalConnection takeIdle() {
+        long now = System.currentTimeMillis();
+        PhysicalConnection physical;
+        while ((physical = idle.pollFirst()) != null) {
+            if (physical.isExpired(now)) {
+                destroy(physical);
+            } else if (now - physical.lastUsed < config.getValidationIntervalMillis() || isValid(physical)) {
+                return physical;
+            } else {
+                validationFailures.incrementAndGet();
+                destroy(physical);
+            }
+        }
+        return null;
+    }
+
+    private boolean isValid(PhysicalConnection physical) {
+        try {
+            return physical.connection.isValid(config.getValidationTimeoutSeconds());
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private PhysicalConnection open() throws SQLException {
+        Connection connection = backend.openConnection(config);
+        try {
+            connection.setNetworkTimeout(networkTimeoutExecutor, config.getNetworkTimeoutMillis());
+        } catch (SQLException | RuntimeException e) {
+            connection.close();
+            throw e;
+        }
+        created.incrementAndGet();
+        return new PhysicalConnection(connection);
+    }
+
+    private void release(PhysicalConnection physical, boolean broken) {
+        active.decrementAndGet();
+        try {
+            if (closed || broken || physical.isExpired(System.currentTimeMillis()) || !reset(physical)) {
+                destroy(physical);
+            } else {
+                physical.lastUsed = System.currentTimeMillis();
+                idle.offerFirst(physical);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    private boolean reset(PhysicalConnection physical) {
+        try {
+            Connection connection = physical.connection;
+            if (connection.isClosed()) {
+                return false;
+            }
+            if (!connection.getAutoCommit()) {
+                connection.rollback();
+                connection.setAutoCommit(true);
+            }
+            connection.clearWarnings();
+            return true;
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private void destroy(PhysicalConnection physical) {
+        destroyed.incrementAndGet();
+        if (physical.statementCache != null) {
+            physical.statementCache.clear();
+        }
+        try {
+            physical.connection.close();
+        } catch (SQLException e) {
+            System.err.println("Erro ao fechar conexão do pool: " + e.getMessage());
+        }
+    }
+
+    private void maintain() {
+        long now = System.currentTimeMillis();
+        Iterator<PhysicalConnection> oldestFirst = idle.descendingIterator();
+        while (oldestFirst.hasNext()) {
+            PhysicalConnection physical = oldestFirst.next();
+            boolean idleTooLong = now - physical.lastUsed > config.getIdleTimeoutMillis()
+                    && idle.size() + active.get() > config.getMinSize();
+            if ((idleTooLong || physical.isExpired(now)) && idle.remove(physical)) {
+                destroy(physical);
+            }
+        }
+        fillToMinimum();
+    }
+
+    private void fillToMinimum() {
+        try {
+            while (!closed && idle.size() + active.get() < config.getMinSize()) {
+                idle.offerLast(open());
+            }
+        } catch (SQLException e) {
+            System.err.println("Erro ao abrir conexões mínimas do pool: " + e.getMessage());
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private final class PhysicalConnection {
+        private final Connection connection;
+        private final StatementCache statementCache;
+        private final long createdAt;
+        private volatile long lastUsed;
+
+        private PhysicalConnection(Connection connection) {
+            this.connection = connection;
+            this.statementCache = config.getStatementCacheSize() > 0
+                    ? new StatementCache(config.getStatementCacheSize())
+                    : null;
+            this.createdAt = System.currentTimeMillis();
+            this.lastUsed = createdAt;
+        }
+
+        private boolean isExpired(long now) {
+            return config.getMaxLifetimeMillis() > 0 && now - createdAt > config.getMaxLifetimeMillis();
+        }
+
+        private Connection newHandle() {
+            return (Connection) Proxy.newProxyInstance(ConnectionPool.class.getClassLoader(),
+                    new Class<?>[] { Connection.class }, new Handle(this));
+        }
+    }
+
+    private final class Handle implements InvocationHandler {
+        private final PhysicalConnection physical;
+        private boolean returned;
+        private boolean broken;
+
+        private Handle(PhysicalConnection physical) {
+            this.physical = physical;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!returned) {
+                        returned = true;
+                        release(physical, broken);
+                    }
+                    return null;
+                case "isClosed":
+                    return returned || physical.connection.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "PooledConnection[" + physical.connection + "]";
+                default:
+                    break;
+            }
+
+            if (returned) {
+                throw new SQLException("Conexão já devolvida ao pool.");
+            }
+
+            if (physical.statementCache != null && StatementCache.isCacheable(method, args)) {
+                String key = StatementCache.keyOf(args);
+                PreparedStatement statement = physical.statementCache.take(key);
+                if (statement != null) {
+                    statementCacheHits.incrementAndGet();
+                } else {
+                    statementCacheMisses.incrementAndGet();
+                    statement = (PreparedStatement) invokePhysical(method, args);
+                }
+                return physical.statementCache.wrap(key, statement, (Connection) proxy);
+            }
+
+            return invokePhysical(method, args);
+        }
+
+        private Object invokePhysical(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(physical.connection, args);
+            } catch (InvocationTargetException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof SQLException) {
+                    String sqlState = ((SQLException) cause).getSQLState();
+                    if (sqlState != null && sqlState.startsWith("08")) {
+                        broken = true;
+                    }
+                }
+                throw cause;
+            }
+        }
+    }
+
+    @Override
+    public PrintWriter getLogWriter() {
+        return null;
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) {
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) {
+    }
+
+    @Override
+    public int getLoginTimeout() {
+        return 0;
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        throw new SQLException("Não é um wrapper para " + iface.getName());
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) {
+        return iface.isInstance(this);
+    }
+}
@@ -0,0 +1,20 @@
+package com.disasterawareness.utils;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Properties;
+
+import javax.sql.DataSource;
+
+public interface DatabaseBackend {
+    String getName();
+
+    Properties getDefaults();
+
+    Connection openConnection(PoolConfig config) throws SQLException;
+
+    void initialize(DataSource dataSource) throws SQLException;
+
+    Long updateReturning(Connection conn, String updateSql, String returningColumn, long... params)
+            throws SQLException;
+}
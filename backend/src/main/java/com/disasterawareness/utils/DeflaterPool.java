@@ -0,0 +1,42 @@
+package com.disasterawareness.utils;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.zip.Deflater;
+
+public class DeflaterPool {
+    private final int level;
+    private final boolean nowrap;
+    private final ArrayBlockingQueue<Deflater> idle;
+
+    public DeflaterPool(int level, boolean nowrap, int maxIdle) {
+        if (maxIdle < 1) {
+            throw new IllegalArgumentException("O pool de compressores deve manter ao menos uma instância.");
+        }
+        this.level = level;
+        this.nowrap = nowrap;
+        this.idle = new ArrayBlockingQueue<>(maxIdle);
+    }
+
+    public Deflater borrow() {
+        Deflater deflater = idle.poll();
+        return deflater != null ? deflater : new Deflater(level, nowrap);
+    }
+
+    public void release(Deflater deflater) {
+        deflater.reset();
+        if (!idle.offer(deflater)) {
+            deflater.end();
+        }
+    }
+
+    public int idleCount() {
+        return idle.size();
+    }
+
+    public void clear() {
+        Deflater deflater;
+        while ((deflater = idle.poll()) != null) {
+            deflater.end();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.disasterawareness.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+
+import javax.sql.DataSource;
+
+public class EmbeddedH2Backend implements DatabaseBackend {
+    private static final String URL = "jdbc:h2:mem:educasos;MODE=Oracle;DB_CLOSE_DELAY=-1;DEFAULT_NULL_ORDERING=HIGH";
+    private static final String INIT_SCRIPT = "db/init.sql";
+    private static final String[] TABLES_WITH_UPDATED_AT = { "users", "content", "kits" };
+
+    public EmbeddedH2Backend() {
+        try {
+            Class.forName("org.h2.Driver");
+        } catch (ClassNotFoundException e) {
+            throw new RuntimeException("Erro ao carregar o driver do H2: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "h2";
+    }
+
+    @Override
+    public Properties getDefaults() {
+        Properties defaults = new Properties();
+        defaults.setProperty("db.url", URL);
+        defaults.setProperty("db.user", "sa");
+        defaults.setProperty("db.password", "");
+        return defaults;
+    }
+
+    @Override
+    public Connection openConnection(PoolConfig config) throws SQLException {
+        return DriverManager.getConnection(config.getUrl(), config.getUser(), config.getPassword());
+    }
+
+    @Override
+    public void initialize(DataSource dataSource) throws SQLException {
+        try (Connection conn = dataSource.getConnection()) {
+            if (isInitialized(conn)) {
+                return;
+            }
+
+            try (Statement stmt = conn.createStatement()) {
+                for (String sql : SqlScript.parse(readInitScript())) {
+                    if (!SqlScript.isPlsqlBlock(sql)) {
+                        stmt.execute(sql);
+                    }
+                }
+
+                for (String table : TABLES_WITH_UPDATED_AT) {
+                    stmt.execute("ALTER TABLE " + table + " ALTER COLUMN updated_at SET ON UPDATE CURRENT_TIMESTAMP");
+                }
+            }
+        }
+    }
+
+    @Override
+    public Long updateReturning(Connection conn, String updateSql, String returningColumn, long... params)
+            throws SQLException {
+        String sql = "SELECT " + returningColumn + " FROM FINAL TABLE (" + updateSql + ")";
+
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            for (int i = 0; i < params.length; i++) {
+                stmt.setLong(i + 1, params[i]);
+            }
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? rs.getLong(1) : null;
+            }
+        }
+    }
+
+    private boolean isInitialized(Connection conn) throws SQLException {
+        try (ResultSet rs = conn.getMetaData().getTables(null, conn.getSchema(), "USERS", new String[] { "TABLE" })) {
+            return rs.next();
+        }
+    }
+
+    private String readInitScript() throws SQLException {
+        try (InputStream in = EmbeddedH2Backend.class.getClassLoader().getResourceAsStream(INIT_SCRIPT)) {
+            if (in == null) {
+                throw new SQLException("Script de inicialização não encontrado: " + INIT_SCRIPT);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new SQLException("Erro ao ler " + INIT_SCRIPT, e);
+        }
+    }
+}
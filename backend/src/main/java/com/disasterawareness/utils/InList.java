@@ -0,0 +1,57 @@
+package com.disasterawareness.utils;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+public class InList {
+    public static final int MAX_SIZE = 1000;
+
+    private static final int[] BUCKETS = { 1, 2, 4, 8, 16, 32, 64, 128, 256, 512, MAX_SIZE };
+    private static final String[] PLACEHOLDERS = new String[BUCKETS.length];
+
+    static {
+        for (int i = 0; i < BUCKETS.length; i++) {
+            StringBuilder sb = new StringBuilder(BUCKETS[i] * 2);
+            for (int j = 0; j < BUCKETS[i]; j++) {
+                if (j > 0) {
+                    sb.append(',');
+                }
+                sb.append('?');
+            }
+            PLACEHOLDERS[i] = sb.toString();
+        }
+    }
+
+    public static int bucketSize(int count) {
+        return BUCKETS[bucketIndex(count)];
+    }
+
+    public static String placeholders(int count) {
+        return PLACEHOLDERS[bucketIndex(count)];
+    }
+
+    public static int bind(PreparedStatement stmt, int startIndex, List<Long> values) throws SQLException {
+        int size = bucketSize(values.size());
+        Long last = values.get(values.size() - 1);
+        for (int i = 0; i < size; i++) {
+            stmt.setLong(startIndex + i, i < values.size() ? values.get(i) : last);
+        }
+        return startIndex + size;
+    }
+
+    private static int bucketIndex(int count) {
+        if (count <= 0 || count > MAX_SIZE) {
+            throw new IllegalArgumentException("Tamanho de lista IN inválido: " + count);
+        }
+        for (int i = 0; i < BUCKETS.length; i++) {
+            if (count <= BUCKETS[i]) {
+                return i;
+            }
+        }
+        return BUCKETS.length - 1;
+    }
+
+    private InList() {
+    }
+}
@@ -0,0 +1,87 @@
+package com.disasterawareness.utils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.SQLException;
+
+import javax.servlet.http.HttpServletResponse;
+
+import com.disasterawareness.dao.RowHandler;
+import com.google.gson.Gson;
+import com.google.gson.stream.JsonWriter;
+
+public class JsonArrayWriter {
+    private static final int FIRST_PAGE_BYTES = 32 * 1024;
+
+    @FunctionalInterface
+    public interface RowSource<T> {
+        void stream(RowHandler<T> handler) throws SQLException, IOException;
+    }
+
+    public static <T> void write(HttpServletResponse response, Gson gson, Class<T> type, RowSource<T> source)
+            throws SQLException, IOException {
+        FirstPageBuffer out = new FirstPageBuffer(response.getOutputStream(), FIRST_PAGE_BYTES);
+        JsonWriter writer = JsonCodec.newJsonWriter(out);
+        try {
+            writer.beginArray();
+            source.stream(row -> gson.toJson(row, type, writer));
+            writer.endArray();
+            writer.flush();
+        } catch (SQLException | IOException | RuntimeException e) {
+            if (!out.isSpilled()) {
+                throw e;
+            }
+            throw new IOException("Listagem interrompida após o início da resposta.", e);
+        }
+    }
+
+    private static class FirstPageBuffer extends OutputStream {
+        private final OutputStream target;
+        private final int limit;
+        private ByteArrayOutputStream buffer;
+
+        private FirstPageBuffer(OutputStream target, int limit) {
+            this.target = target;
+            this.limit = limit;
+            this.buffer = new ByteArrayOutputStream(Math.min(limit, 8192));
+        }
+
+        private boolean isSpilled() {
+            return buffer == null;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] { (byte) b }, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (buffer == null) {
+                target.write(b, off, len);
+                return;
+            }
+            buffer.write(b, off, len);
+            if (buffer.size() >= limit) {
+                spill();
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            spill();
+        }
+
+        private void spill() throws IOException {
+            if (buffer != null) {
+                ByteArrayOutputStream buffered = buffer;
+                buffer = null;
+                buffered.writeTo(target);
+            }
+        }
+    }
+
+    private JsonArrayWriter() {
+    }
+}
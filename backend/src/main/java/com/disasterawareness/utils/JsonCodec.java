@@ -0,0 +1,202 @@
+package com.disasterawareness.utils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+import javax.servlet.http.HttpServletResponse;
+
+import com.disasterawareness.model.AnswerChoice;
+import com.disasterawareness.model.Content;
+import com.disasterawareness.model.Kit;
+import com.disasterawareness.model.Question;
+import com.disasterawareness.model.Quiz;
+import com.disasterawareness.model.User;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+public class JsonCodec {
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final Gson GSON = new GsonBuilder()
+            .registerTypeAdapterFactory(fields(Kit.class, JsonCodec::writeKit))
+            .registerTypeAdapterFactory(fields(Content.class, JsonCodec::writeContent))
+            .registerTypeAdapterFactory(fields(User.class, JsonCodec::writeUser))
+            .registerTypeAdapterFactory(fields(Quiz.class, JsonCodec::writeQuiz))
+            .create();
+
+    @FunctionalInterface
+    private interface FieldWriter<T> {
+        void write(JsonWriter out, T value) throws IOException;
+    }
+
+    public static Gson gson() {
+        return GSON;
+    }
+
+    public static void write(HttpServletResponse response, Object value) throws IOException {
+        write(response.getOutputStream(), value);
+    }
+
+    public static void write(OutputStream out, Object value) throws IOException {
+        Utf8Writer utf8 = new Utf8Writer(out, BUFFER_SIZE);
+        JsonWriter writer = GSON.newJsonWriter(utf8);
+        if (value == null) {
+            writer.nullValue();
+        } else {
+            GSON.toJson(value, value.getClass(), writer);
+        }
+        utf8.flushBuffer();
+    }
+
+    public static JsonWriter newJsonWriter(HttpServletResponse response) throws IOException {
+        return newJsonWriter(response.getOutputStream());
+    }
+
+    public static JsonWriter newJsonWriter(OutputStream out) throws IOException {
+        return GSON.newJsonWriter(new Utf8Writer(out, BUFFER_SIZE));
+    }
+
+    public static byte[] toBytes(Object value) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(BUFFER_SIZE);
+        try {
+            write(buffer, value);
+        } catch (IOException e) {
+            throw new IllegalStateException("Erro ao serializar JSON.", e);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static <T> TypeAdapterFactory fields(Class<T> type, FieldWriter<T> fieldWriter) {
+        return new TypeAdapterFactory() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <R> TypeAdapter<R> create(Gson gson, TypeToken<R> token) {
+                if (token.getRawType() != type) {
+                    return null;
+                }
+                TypeAdapter<R> delegate = gson.getDelegateAdapter(this, token);
+                return new TypeAdapter<R>() {
+                    @Override
+                    public void write(JsonWriter out, R value) throws IOException {
+                        if (value == null) {
+                            out.nullValue();
+                            return;
+                        }
+                        out.beginObject();
+                        fieldWriter.write(out, (T) value);
+                        out.endObject();
+                    }
+
+                    @Override
+                    public R read(JsonReader in) throws IOException {
+                        return delegate.read(in);
+                    }
+                };
+            }
+        };
+    }
+
+    private static void writeKit(JsonWriter out, Kit kit) throws IOException {
+        out.name("kitId").value(kit.getKitId());
+        out.name("houseType").value(kit.getHouseType());
+        out.name("residents").value(kit.getResidents());
+        out.name("hasChildren").value(kit.getHasChildren());
+        out.name("hasElderly").value(kit.getHasElderly());
+        out.name("hasPets").value(kit.getHasPets());
+        out.name("region").value(kit.getRegion());
+        out.name("recommendedItems").value(kit.getRecommendedItems());
+        out.name("isCustom").value(kit.getIsCustom());
+        out.name("userId").value(kit.getUserId());
+    }
+
+    private static void writeContent(JsonWriter out, Content content) throws IOException {
+        out.name("contentId").value(content.getContentId());
+        out.name("disasterType").value(content.getDisasterType());
+        out.name("title").value(content.getTitle());
+        out.name("description").value(content.getDescription());
+        out.name("videoUrl").value(content.getVideoUrl());
+    }
+
+    private static void writeUser(JsonWriter out, User user) throws IOException {
+        out.name("userId").value(user.getUserId());
+        out.name("name").value(user.getName());
+        out.name("email").value(user.getEmail());
+        out.name("score").value(user.getScore());
+        out.name("isAdmin").value(user.getIsAdmin());
+        if (user.getCompletedQuizzes() != null) {
+            out.name("completedQuizzes").beginArray();
+            for (Long quizId : user.getCompletedQuizzes()) {
+                out.value(quizId);
+            }
+            out.endArray();
+        }
+    }
+
+    private static void writeQuiz(JsonWriter out, Quiz quiz) throws IOException {
+        boolean serializeNulls = out.getSerializeNulls();
+        out.setSerializeNulls(true);
+        try {
+            out.name("quizId").value(quiz.getQuizId());
+            out.name("title").value(quiz.getTitle());
+            out.name("disasterType").value(quiz.getDisasterType());
+            out.name("questions");
+            writeQuestions(out, quiz.getQuestions());
+        } finally {
+            out.setSerializeNulls(serializeNulls);
+        }
+    }
+
+    private static void writeQuestions(JsonWriter out, List<Question> questions) throws IOException {
+        if (questions == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginArray();
+        for (Question question : questions) {
+            if (question == null) {
+                out.nullValue();
+                continue;
+            }
+            out.beginObject();
+            out.name("questionId").value(question.getQuestionId());
+            out.name("quizId").value(question.getQuizId());
+            out.name("questionText").value(question.getQuestionText());
+            out.name("points").value(question.getPoints());
+            out.name("answerChoices");
+            writeAnswerChoices(out, question.getAnswerChoices());
+            out.endObject();
+        }
+        out.endArray();
+    }
+
+    private static void writeAnswerChoices(JsonWriter out, List<AnswerChoice> choices) throws IOException {
+        if (choices == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginArray();
+        for (AnswerChoice choice : choices) {
+            if (choice == null) {
+                out.nullValue();
+                continue;
+            }
+            out.beginObject();
+            out.name("choiceId").value(choice.getChoiceId());
+            out.name("questionId").value(choice.getQuestionId());
+            out.name("choiceText").value(choice.getChoiceText());
+            out.name("isCorrect").value(choice.getIsCorrect());
+            out.endObject();
+        }
+        out.endArray();
+    }
+
+    private JsonCodec() {
+    }
+}
@@ -0,0 +1,48 @@
+package com.disasterawareness.utils;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.Reader;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
+
+public class JsonRecordReader {
+    private final JsonReader reader;
+    private Boolean array;
+
+    public JsonRecordReader(Reader in) {
+        this.reader = new JsonReader(in);
+        this.reader.setLenient(true);
+    }
+
+    public JsonElement next() throws IOException {
+        if (array == null) {
+            try {
+                array = reader.peek() == JsonToken.BEGIN_ARRAY;
+            } catch (EOFException e) {
+                return null;
+            }
+            if (array) {
+                reader.beginArray();
+            }
+        }
+
+        try {
+            if (array) {
+                if (!reader.hasNext()) {
+                    return null;
+                }
+            } else if (reader.peek() == JsonToken.END_DOCUMENT) {
+                return null;
+            }
+        } catch (EOFException | MalformedJsonException e) {
+            throw new JsonSyntaxException(e.getMessage(), e);
+        }
+        return JsonParser.parseReader(reader);
+    }
+}
@@ -1,15 +1,24 @@
 package com.disasterawareness.utils;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.UUID;
 
 import com.disasterawareness.model.User;
+import com.google.gson.GsonBuilder;
+import com.google.gson.ToNumberPolicy;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.gson.io.GsonDeserializer;
 import io.jsonwebtoken.security.Keys;
 
 public class JwtUtil {
@@ -20,6 +29,30 @@ public class JwtUtil {
 
     private static final Key KEY = Keys.hmacShaKeyFor(SECRET_KEY.getBytes(StandardCharsets.UTF_8));
 
+    private static final JwtParser PARSER = Jwts.parser()
+            .json(new GsonDeserializer<>(
+                    new GsonBuilder().setObjectToNumberStrategy(ToNumberPolicy.LONG_OR_DOUBLE).create()))
+            .setSigningKey(KEY)
+            .build();
+
+    private static final int VERIFIED_CACHE_SIZE = 10_000;
+
+    private static final Map<ByteBuffer, Claims> VERIFIED = new LinkedHashMap<ByteBuffer, Claims>(
+            VERIFIED_CACHE_SIZE * 4 / 3 + 1, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<ByteBuffer, Claims> eldest) {
+            return size() > VERIFIED_CACHE_SIZE;
+        }
+    };
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    });
+
     public static String generateToken(User user) {
         Map<String, Object> claims = new HashMap<>();
         claims.put("userId", user.getUserId());
@@ -27,6 +60,7 @@ public class JwtUtil {
 
         return Jwts.builder()
                 .setClaims(claims)
+                .setId(UUID.randomUUID().toString())
                 .setSubject(user.getEmail())
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + EXPIRATION_TIME))
@@ -34,12 +68,45 @@ public class JwtUtil {
                 .compact();
     }
 
+    public static long getExpirationMillis() {
+        return EXPIRATION_TIME;
+    }
+
+    public static Claims verify(String token) {
+        ByteBuffer digest = ByteBuffer.wrap(SHA_256.get().digest(token.getBytes(StandardCharsets.UTF_8)));
+        long now = System.currentTimeMillis();
+
+        Claims claims;
+        synchronized (VERIFIED) {
+            claims = VERIFIED.get(digest);
+        }
+        if (claims != null) {
+            if (isExpired(claims, now)) {
+                synchronized (VERIFIED) {
+                    VERIFIED.remove(digest);
+                }
+                return null;
+            }
+            return claims;
+        }
+
+        try {
+            claims = PARSER.parseClaimsJws(token).getBody();
+        } catch (Exception e) {
+            return null;
+        }
+        if (isExpired(claims, now)) {
+            return null;
+        }
+
+        synchronized (VERIFIED) {
+            VERIFIED.put(digest, claims);
+        }
+        return claims;
+    }
+
     public static Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .setSigningKey(KEY)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return PARSER.parseClaimsJws(token).getBody();
     }
 
     public static Long extractUserId(String token) {
@@ -61,11 +128,11 @@ public class JwtUtil {
     }
 
     public static boolean validateToken(String token) {
-        try {
-            Jwts.parser().setSigningKey(KEY).build().parseClaimsJws(token);
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
+        return verify(token) != null;
+    }
+
+    private static boolean isExpired(Claims claims, long now) {
+        Date expiration = claims.getExpiration();
+        return expiration != null && expiration.getTime() <= now;
     }
 }
\ No newline at end of file
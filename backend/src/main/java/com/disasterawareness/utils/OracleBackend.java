@@ -0,0 +1,68 @@
+package com.disasterawareness.utils;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Properties;
+
+import javax.sql.DataSource;
+
+public class OracleBackend implements DatabaseBackend {
+    private static final String URL = "jdbc:oracle:thin:@oracle.fiap.com.br:1521:orcl";
+    private static final String USER = "rm553314";
+    private static final String PASSWORD = "171195";
+
+    public OracleBackend() {
+        try {
+            Class.forName("oracle.jdbc.driver.OracleDriver");
+        } catch (ClassNotFoundException e) {
+            throw new RuntimeException("Erro ao carregar o driver do Oracle: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "oracle";
+    }
+
+    @Override
+    public Properties getDefaults() {
+        Properties defaults = new Properties();
+        defaults.setProperty("db.url", URL);
+        defaults.setProperty("db.user", USER);
+        defaults.setProperty("db.password", PASSWORD);
+        return defaults;
+    }
+
+    @Override
+    public Connection openConnection(PoolConfig config) throws SQLException {
+        Properties info = new Properties();
+        info.setProperty("user", config.getUser());
+        info.setProperty("password", config.getPassword());
+        info.setProperty("oracle.jdbc.defaultLobPrefetchSize", String.valueOf(config.getLobPrefetchSize()));
+        return DriverManager.getConnection(config.getUrl(), info);
+    }
+
+    @Override
+    public void initialize(DataSource dataSource) {
+    }
+
+    @Override
+    public Long updateReturning(Connection conn, String updateSql, String returningColumn, long... params)
+            throws SQLException {
+        String block = "BEGIN " + updateSql + " RETURNING " + returningColumn + " INTO ?; END;";
+
+        try (CallableStatement stmt = conn.prepareCall(block)) {
+            for (int i = 0; i < params.length; i++) {
+                stmt.setLong(i + 1, params[i]);
+            }
+            stmt.registerOutParameter(params.length + 1, Types.NUMERIC);
+            stmt.execute();
+
+            long value = stmt.getLong(params.length + 1);
+            return stmt.wasNull() ? null : value;
+        }
+    }
+}
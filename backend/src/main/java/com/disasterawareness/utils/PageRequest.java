@@ -0,0 +1,49 @@
+package com.disasterawareness.utils;
+
+import javax.servlet.http.HttpServletRequest;
+
+public class PageRequest {
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+
+    private final long after;
+    private final int limit;
+
+    public PageRequest(long after, int limit) {
+        if (after < 0) {
+            throw new IllegalArgumentException("Cursor de paginação inválido.");
+        }
+        if (limit <= 0 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("O limite deve estar entre 1 e " + MAX_LIMIT + ".");
+        }
+        this.after = after;
+        this.limit = limit;
+    }
+
+    public static PageRequest from(HttpServletRequest request) {
+        String after = request.getParameter("after");
+        String limit = request.getParameter("limit");
+        if (after == null && limit == null) {
+            return null;
+        }
+
+        try {
+            return new PageRequest(after == null || after.isEmpty() ? 0 : Long.parseLong(after),
+                    limit == null || limit.isEmpty() ? DEFAULT_LIMIT : Integer.parseInt(limit));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Parâmetros de paginação inválidos.");
+        }
+    }
+
+    public long getAfter() {
+        return after;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getFetchSize() {
+        return limit + 1;
+    }
+}
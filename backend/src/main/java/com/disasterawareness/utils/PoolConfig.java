@@ -0,0 +1,107 @@
+package com.disasterawareness.utils;
+
+import java.util.Properties;
+
+public class PoolConfig {
+    private final String url;
+    private final String user;
+    private final String password;
+    private final int minSize;
+    private final int maxSize;
+    private final long maxWaitMillis;
+    private final long idleTimeoutMillis;
+    private final long maxLifetimeMillis;
+    private final long validationIntervalMillis;
+    private final int validationTimeoutSeconds;
+    private final long evictionIntervalMillis;
+    private final int networkTimeoutMillis;
+    private final int statementCacheSize;
+    private final int lobPrefetchSize;
+
+    public PoolConfig(Properties properties) {
+        this.url = properties.getProperty("db.url");
+        this.user = properties.getProperty("db.user");
+        this.password = properties.getProperty("db.password");
+        this.minSize = intProperty(properties, "db.pool.minSize", 2);
+        this.maxSize = intProperty(properties, "db.pool.maxSize", 10);
+        this.maxWaitMillis = longProperty(properties, "db.pool.maxWaitMillis", 5_000);
+        this.idleTimeoutMillis = longProperty(properties, "db.pool.idleTimeoutMillis", 600_000);
+        this.maxLifetimeMillis = longProperty(properties, "db.pool.maxLifetimeMillis", 1_800_000);
+        this.validationIntervalMillis = longProperty(properties, "db.pool.validationIntervalMillis", 30_000);
+        this.validationTimeoutSeconds = intProperty(properties, "db.pool.validationTimeoutSeconds", 5);
+        this.evictionIntervalMillis = longProperty(properties, "db.pool.evictionIntervalMillis", 30_000);
+        this.networkTimeoutMillis = intProperty(properties, "db.networkTimeoutMillis", 300_000);
+        this.statementCacheSize = intProperty(properties, "db.pool.statementCacheSize", 50);
+        this.lobPrefetchSize = intProperty(properties, "db.lobPrefetchSize", 32_768);
+
+        if (minSize < 0 || maxSize <= 0 || minSize > maxSize) {
+            throw new IllegalArgumentException("Configuração de pool inválida: minSize=" + minSize + ", maxSize=" + maxSize);
+        }
+    }
+
+    private static int intProperty(Properties properties, String key, int defaultValue) {
+        String value = properties.getProperty(key);
+        return value == null || value.trim().isEmpty() ? defaultValue : Integer.parseInt(value.trim());
+    }
+
+    private static long longProperty(Properties properties, String key, long defaultValue) {
+        String value = properties.getProperty(key);
+        return value == null || value.trim().isEmpty() ? defaultValue : Long.parseLong(value.trim());
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public String getUser() {
+        return user;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public int getMinSize() {
+        return minSize;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public long getMaxWaitMillis() {
+        return maxWaitMillis;
+    }
+
+    public long getIdleTimeoutMillis() {
+        return idleTimeoutMillis;
+    }
+
+    public long getMaxLifetimeMillis() {
+        return maxLifetimeMillis;
+    }
+
+    public long getValidationIntervalMillis() {
+        return validationIntervalMillis;
+    }
+
+    public int getValidationTimeoutSeconds() {
+        return validationTimeoutSeconds;
+    }
+
+    public long getEvictionIntervalMillis() {
+        return evictionIntervalMillis;
+    }
+
+    public int getNetworkTimeoutMillis() {
+        return networkTimeoutMillis;
+    }
+
+    public int getStatementCacheSize() {
+        return statementCacheSize;
+    }
+
+    public int getLobPrefetchSize() {
+        return lobPrefetchSize;
+    }
+}
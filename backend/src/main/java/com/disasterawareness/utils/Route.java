@@ -0,0 +1,102 @@
+package com.disasterawareness.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class Route {
+    public enum Access {
+        PUBLIC, AUTHENTICATED, ADMIN
+    }
+
+    public enum ParamType {
+        STRING, LONG
+    }
+
+    private final String method;
+    private final String pattern;
+    private final Access access;
+    private final List<String> segments;
+    private final List<String> paramNames;
+
+    public Route(String method, String pattern, Access access) {
+        this.method = method;
+        this.pattern = pattern;
+        this.access = access;
+        this.segments = Collections.unmodifiableList(split(pattern));
+
+        List<String> names = new ArrayList<>();
+        for (String segment : segments) {
+            if (isParam(segment)) {
+                names.add(paramName(segment));
+            }
+        }
+        this.paramNames = Collections.unmodifiableList(names);
+    }
+
+    static List<String> split(String path) {
+        List<String> segments = new ArrayList<>();
+        int start = 0;
+        while (start <= path.length()) {
+            int end = path.indexOf('/', start);
+            if (end < 0) {
+                end = path.length();
+            }
+            if (end > start) {
+                segments.add(path.substring(start, end));
+            }
+            start = end + 1;
+        }
+        return segments;
+    }
+
+    static boolean isParam(String segment) {
+        return segment.startsWith("{") && segment.endsWith("}");
+    }
+
+    static String paramName(String segment) {
+        int colon = segment.indexOf(':');
+        return segment.substring(1, colon < 0 ? segment.length() - 1 : colon);
+    }
+
+    static ParamType paramType(String segment) {
+        int colon = segment.indexOf(':');
+        if (colon < 0) {
+            return ParamType.STRING;
+        }
+        String type = segment.substring(colon + 1, segment.length() - 1);
+        switch (type) {
+            case "long":
+                return ParamType.LONG;
+            case "string":
+                return ParamType.STRING;
+            default:
+                throw new IllegalArgumentException("Tipo de parâmetro de rota desconhecido: " + type);
+        }
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getPattern() {
+        return pattern;
+    }
+
+    public Access getAccess() {
+        return access;
+    }
+
+    List<String> getSegments() {
+        return segments;
+    }
+
+    List<String> getParamNames() {
+        return paramNames;
+    }
+
+    @Override
+    public String toString() {
+        return method + " " + pattern;
+    }
+}
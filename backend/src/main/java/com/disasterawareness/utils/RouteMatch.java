@@ -0,0 +1,35 @@
+package com.disasterawareness.utils;
+
+public class RouteMatch {
+    private final Route route;
+    private final Object[] params;
+
+    RouteMatch(Route route, Object[] params) {
+        this.route = route;
+        this.params = params;
+    }
+
+    public Route getRoute() {
+        return route;
+    }
+
+    public boolean is(Route candidate) {
+        return route == candidate;
+    }
+
+    public Long getLong(String name) {
+        return (Long) param(name);
+    }
+
+    public String getString(String name) {
+        return (String) param(name);
+    }
+
+    private Object param(String name) {
+        int index = route.getParamNames().indexOf(name);
+        if (index < 0) {
+            throw new IllegalArgumentException("Parâmetro de rota desconhecido: " + name);
+        }
+        return params[index];
+    }
+}
@@ -0,0 +1,112 @@
+package com.disasterawareness.utils;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class RouteTable {
+    private final Node root = new Node();
+    private int maxParams;
+
+    public RouteTable add(Route route) {
+        Node node = root;
+        int params = 0;
+        for (String segment : route.getSegments()) {
+            if (Route.isParam(segment)) {
+                Route.ParamType type = Route.paramType(segment);
+                Node child = type == Route.ParamType.LONG ? node.longParam : node.stringParam;
+                if (child == null) {
+                    child = new Node();
+                    if (type == Route.ParamType.LONG) {
+                        node.longParam = child;
+                    } else {
+                        node.stringParam = child;
+                    }
+                }
+                node = child;
+                params++;
+            } else {
+                node = node.literals.computeIfAbsent(segment, key -> new Node());
+            }
+        }
+
+        if (node.routes.putIfAbsent(route.getMethod(), route) != null) {
+            throw new IllegalArgumentException("Rota duplicada: " + route);
+        }
+        maxParams = Math.max(maxParams, params);
+        return this;
+    }
+
+    public RouteMatch match(String method, String path) {
+        if (path == null) {
+            return null;
+        }
+        List<String> segments = Route.split(path);
+        Object[] params = new Object[maxParams];
+        Route route = match(root, method, segments, 0, params, 0);
+        if (route == null) {
+            return null;
+        }
+
+        Object[] values = new Object[route.getParamNames().size()];
+        System.arraycopy(params, 0, values, 0, values.length);
+        return new RouteMatch(route, values);
+    }
+
+    private static Route match(Node node, String method, List<String> segments, int index, Object[] params,
+            int paramCount) {
+        if (index == segments.size()) {
+            return node.routes.get(method);
+        }
+
+        String segment = segments.get(index);
+        Node literal = node.literals.get(segment);
+        if (literal != null) {
+            Route route = match(literal, method, segments, index + 1, params, paramCount);
+            if (route != null) {
+                return route;
+            }
+        }
+
+        if (node.longParam != null) {
+            Long value = parseLong(segment);
+            if (value != null) {
+                params[paramCount] = value;
+                Route route = match(node.longParam, method, segments, index + 1, params, paramCount + 1);
+                if (route != null) {
+                    return route;
+                }
+            }
+        }
+
+        if (node.stringParam != null) {
+            params[paramCount] = segment;
+            return match(node.stringParam, method, segments, index + 1, params, paramCount + 1);
+        }
+        return null;
+    }
+
+    private static Long parseLong(String segment) {
+        if (segment.isEmpty() || segment.length() > 19) {
+            return null;
+        }
+        for (int i = 0; i < segment.length(); i++) {
+            char c = segment.charAt(i);
+            if (c < '0' || c > '9') {
+                return null;
+            }
+        }
+        try {
+            return Long.parseLong(segment);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static class Node {
+        private final Map<String, Node> literals = new HashMap<>();
+        private final Map<String, Route> routes = new HashMap<>();
+        private Node longParam;
+        private Node stringParam;
+    }
+}
@@ -0,0 +1,233 @@
+package com.disasterawareness.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+public class SchemaMigrator {
+    private static final String MIGRATIONS_PATH = "db/migrations/";
+    private static final long DEFAULT_LOCK_TIMEOUT_MILLIS = 300_000;
+    private static final long STALE_LOCK_MILLIS = 600_000;
+    private static final long LOCK_POLL_MILLIS = 500;
+
+    private static final String[] MIGRATIONS = {
+            "V1__add_kits_user_id_index.sql",
+            "V2__add_leaderboard_covering_index.sql",
+            "V3__add_user_earned_question_points_question_index.sql",
+            "V4__create_revoked_tokens.sql",
+    };
+
+    private final DataSource dataSource;
+    private final long lockTimeoutMillis;
+
+    public SchemaMigrator(DataSource dataSource) {
+        this(dataSource, DEFAULT_LOCK_TIMEOUT_MILLIS);
+    }
+
+    SchemaMigrator(DataSource dataSource, long lockTimeoutMillis) {
+        this.dataSource = dataSource;
+        this.lockTimeoutMillis = lockTimeoutMillis;
+    }
+
+    public int migrate() throws SQLException {
+        try (Connection conn = dataSource.getConnection()) {
+            ensureTable(conn, "SCHEMA_VERSION", "CREATE TABLE schema_version ("
+                    + "version NUMBER PRIMARY KEY, "
+                    + "script VARCHAR2(200) NOT NULL, "
+                    + "applied_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP)");
+            ensureTable(conn, "SCHEMA_MIGRATION_LOCK", "CREATE TABLE schema_migration_lock ("
+                    + "id NUMBER PRIMARY KEY, "
+                    + "locked NUMBER(1) DEFAULT 0 NOT NULL, "
+                    + "locked_at TIMESTAMP, "
+                    + "version NUMBER, "
+                    + "step NUMBER)");
+            ensureLockRow(conn);
+
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            try {
+                acquireLock(conn);
+                try {
+                    return applyPending(conn);
+                } finally {
+                    releaseLock(conn);
+                }
+            } finally {
+                conn.setAutoCommit(autoCommit);
+            }
+        }
+    }
+
+    private int applyPending(Connection conn) throws SQLException {
+        int currentVersion = currentVersion(conn);
+        int[] progress = progress(conn);
+        int applied = 0;
+
+        for (String migration : MIGRATIONS) {
+            int version = versionOf(migration);
+            if (version <= currentVersion) {
+                continue;
+            }
+
+            int done = progress[0] == version ? progress[1] : 0;
+            apply(conn, version, migration, done);
+            applied++;
+        }
+        return applied;
+    }
+
+    private void apply(Connection conn, int version, String migration, int done) throws SQLException {
+        List<String> statements = SqlScript.parse(readMigration(migration));
+
+        for (int step = done; step < statements.size(); step++) {
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute(statements.get(step));
+            } catch (SQLException e) {
+                rollbackQuietly(conn, e);
+                throw new SQLException("Falha ao aplicar a migração " + migration + " (comando " + (step + 1)
+                        + " de " + statements.size() + "): " + e.getMessage(), e);
+            }
+            recordProgress(conn, version, step + 1);
+            conn.commit();
+        }
+
+        try (PreparedStatement stmt = conn.prepareStatement(
+                "INSERT INTO schema_version (version, script) VALUES (?, ?)")) {
+            stmt.setInt(1, version);
+            stmt.setString(2, migration);
+            stmt.executeUpdate();
+        }
+        try (Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate("UPDATE schema_migration_lock SET version = NULL, step = NULL WHERE id = 1");
+        }
+        conn.commit();
+    }
+
+    private void recordProgress(Connection conn, int version, int step) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(
+                "UPDATE schema_migration_lock SET version = ?, step = ?, locked_at = ? WHERE id = 1")) {
+            stmt.setInt(1, version);
+            stmt.setInt(2, step);
+            stmt.setTimestamp(3, new Timestamp(System.currentTimeMillis()));
+            stmt.executeUpdate();
+        }
+    }
+
+    private void acquireLock(Connection conn) throws SQLException {
+        long deadline = System.currentTimeMillis() + lockTimeoutMillis;
+        String sql = "UPDATE schema_migration_lock SET locked = 1, locked_at = ? "
+                + "WHERE id = 1 AND (locked = 0 OR locked_at IS NULL OR locked_at < ?)";
+
+        while (true) {
+            long now = System.currentTimeMillis();
+            int updated;
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setTimestamp(1, new Timestamp(now));
+                stmt.setTimestamp(2, new Timestamp(now - STALE_LOCK_MILLIS));
+                updated = stmt.executeUpdate();
+            }
+            conn.commit();
+            if (updated == 1) {
+                return;
+            }
+
+            if (now >= deadline) {
+                throw new SQLException("Tempo esgotado aguardando o bloqueio de migrações em schema_migration_lock.");
+            }
+            try {
+                Thread.sleep(LOCK_POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLException("Interrompido aguardando o bloqueio de migrações.", e);
+            }
+        }
+    }
+
+    private void releaseLock(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate("UPDATE schema_migration_lock SET locked = 0, locked_at = NULL WHERE id = 1");
+        }
+        conn.commit();
+    }
+
+    private void ensureTable(Connection conn, String table, String ddl) throws SQLException {
+        if (tableExists(conn, table)) {
+            return;
+        }
+
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute(ddl);
+        } catch (SQLException e) {
+            if (!tableExists(conn, table)) {
+                throw e;
+            }
+        }
+    }
+
+    private static boolean tableExists(Connection conn, String table) throws SQLException {
+        try (ResultSet rs = conn.getMetaData().getTables(null, conn.getSchema(), table, new String[] { "TABLE" })) {
+            return rs.next();
+        }
+    }
+
+    private void ensureLockRow(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate("INSERT INTO schema_migration_lock (id, locked) SELECT 1, 0 FROM dual "
+                    + "WHERE NOT EXISTS (SELECT 1 FROM schema_migration_lock WHERE id = 1)");
+        } catch (SQLException e) {
+            try (Statement stmt = conn.createStatement();
+                    ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM schema_migration_lock WHERE id = 1")) {
+                if (!rs.next() || rs.getInt(1) == 0) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private int currentVersion(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+                ResultSet rs = stmt.executeQuery("SELECT NVL(MAX(version), 0) FROM schema_version")) {
+            return rs.next() ? rs.getInt(1) : 0;
+        }
+    }
+
+    private int[] progress(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+                ResultSet rs = stmt.executeQuery(
+                        "SELECT NVL(version, 0), NVL(step, 0) FROM schema_migration_lock WHERE id = 1")) {
+            return rs.next() ? new int[] { rs.getInt(1), rs.getInt(2) } : new int[2];
+        }
+    }
+
+    private static void rollbackQuietly(Connection conn, SQLException cause) {
+        try {
+            conn.rollback();
+        } catch (SQLException e) {
+            cause.addSuppressed(e);
+        }
+    }
+
+    private static int versionOf(String migration) {
+        return Integer.parseInt(migration.substring(1, migration.indexOf("__")));
+    }
+
+    private static String readMigration(String migration) throws SQLException {
+        try (InputStream in = SchemaMigrator.class.getClassLoader().getResourceAsStream(MIGRATIONS_PATH + migration)) {
+            if (in == null) {
+                throw new SQLException("Migração não encontrada: " + MIGRATIONS_PATH + migration);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new SQLException("Erro ao ler a migração " + migration, e);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.disasterawareness.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+public class SqlScript {
+
+    public static List<String> parse(String script) {
+        List<String> statements = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean inBlock = false;
+        boolean inQuote = false;
+
+        for (String line : script.split("\r?\n")) {
+            if (inBlock) {
+                if (line.trim().equals("/")) {
+                    addStatement(statements, current);
+                    inBlock = false;
+                } else {
+                    current.append(line).append('\n');
+                }
+                continue;
+            }
+
+            if (!inQuote && current.toString().trim().isEmpty() && isPlsqlBlock(line)) {
+                current.setLength(0);
+                current.append(line).append('\n');
+                inBlock = true;
+                continue;
+            }
+
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (c == '\'') {
+                    inQuote = !inQuote;
+                } else if (!inQuote && c == '-' && i + 1 < line.length() && line.charAt(i + 1) == '-') {
+                    break;
+                } else if (!inQuote && c == ';') {
+                    addStatement(statements, current);
+                    continue;
+                }
+                current.append(c);
+            }
+            current.append('\n');
+        }
+        addStatement(statements, current);
+        return statements;
+    }
+
+    public static boolean isPlsqlBlock(String sql) {
+        String normalized = sql.trim().toUpperCase(Locale.ROOT).replaceAll("\\s+", " ");
+        return normalized.startsWith("BEGIN")
+                || normalized.startsWith("DECLARE")
+                || normalized.matches("^CREATE (OR REPLACE )?(TRIGGER|PROCEDURE|FUNCTION|PACKAGE)\\b.*");
+    }
+
+    private static void addStatement(List<String> statements, StringBuilder current) {
+        String sql = current.toString().trim();
+        if (!sql.isEmpty()) {
+            statements.add(sql);
+        }
+        current.setLength(0);
+    }
+
+    private SqlScript() {
+    }
+}
@@ -0,0 +1,151 @@
+package com.disasterawareness.utils;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class StatementCache {
+    private final int maxSize;
+    private final LinkedHashMap<String, PreparedStatement> idle = new LinkedHashMap<>(16, 0.75f, true);
+
+    public StatementCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public static boolean isCacheable(Method method, Object[] args) {
+        if (!method.getName().equals("prepareStatement") || args == null || !(args[0] instanceof String)) {
+            return false;
+        }
+        return args.length == 1 || (args.length == 2 && (args[1] instanceof String[] || args[1] instanceof Integer));
+    }
+
+    public static String keyOf(Object[] args) {
+        if (args.length == 1) {
+            return (String) args[0];
+        }
+        Object keys = args[1];
+        return args[0] + "\u0000" + (keys instanceof String[] ? Arrays.toString((String[]) keys) : keys);
+    }
+
+    public PreparedStatement take(String key) {
+        PreparedStatement statement;
+        synchronized (this) {
+            statement = idle.remove(key);
+        }
+        if (statement == null) {
+            return null;
+        }
+
+        try {
+            statement.clearParameters();
+            statement.setFetchSize(0);
+            statement.setMaxRows(0);
+            statement.setQueryTimeout(0);
+            return statement;
+        } catch (SQLException e) {
+            closeQuietly(statement);
+            return null;
+        }
+    }
+
+    public PreparedStatement wrap(String key, PreparedStatement statement, Connection owner) {
+        return (PreparedStatement) Proxy.newProxyInstance(StatementCache.class.getClassLoader(),
+                new Class<?>[] { PreparedStatement.class }, new CachedStatement(key, statement, owner));
+    }
+
+    public synchronized void clear() {
+        for (PreparedStatement statement : idle.values()) {
+            closeQuietly(statement);
+        }
+        idle.clear();
+    }
+
+    private void giveBack(String key, PreparedStatement statement) {
+        try {
+            statement.clearParameters();
+            statement.clearBatch();
+        } catch (SQLException e) {
+            closeQuietly(statement);
+            return;
+        }
+
+        PreparedStatement evicted = null;
+        synchronized (this) {
+            if (idle.containsKey(key)) {
+                evicted = statement;
+            } else {
+                idle.put(key, statement);
+                if (idle.size() > maxSize) {
+                    Iterator<Map.Entry<String, PreparedStatement>> eldest = idle.entrySet().iterator();
+                    evicted = eldest.next().getValue();
+                    eldest.remove();
+                }
+            }
+        }
+        if (evicted != null) {
+            closeQuietly(evicted);
+        }
+    }
+
+    private static void closeQuietly(PreparedStatement statement) {
+        try {
+            statement.close();
+        } catch (SQLException ignored) {
+        }
+    }
+
+    private final class CachedStatement implements InvocationHandler {
+        private final String key;
+        private final PreparedStatement statement;
+        private final Connection owner;
+        private boolean closed;
+
+        private CachedStatement(String key, PreparedStatement statement, Connection owner) {
+            this.key = key;
+            this.statement = statement;
+            this.owner = owner;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!closed) {
+                        closed = true;
+                        giveBack(key, statement);
+                    }
+                    return null;
+                case "isClosed":
+                    return closed || statement.isClosed();
+                case "getConnection":
+                    return owner;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "CachedStatement[" + statement + "]";
+                default:
+                    break;
+            }
+
+            if (closed) {
+                throw new SQLException("Statement já fechado.");
+            }
+
+            try {
+                return method.invoke(statement, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
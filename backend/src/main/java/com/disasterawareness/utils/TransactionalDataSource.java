@@ -0,0 +1,154 @@
+package com.disasterawareness.utils;
+
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import javax.sql.DataSource;
+
+public class TransactionalDataSource implements DataSource {
+    private final DataSource target;
+    private final ThreadLocal<Connection> current = new ThreadLocal<>();
+    private final ThreadLocal<List<Runnable>> afterCommit = new ThreadLocal<>();
+
+    public TransactionalDataSource(DataSource target) {
+        this.target = target;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Connection bound = current.get();
+        if (bound != null) {
+            return participate(bound);
+        }
+        return target.getConnection();
+    }
+
+    public boolean isInTransaction() {
+        return current.get() != null;
+    }
+
+    public void afterCommit(Runnable callback) {
+        List<Runnable> callbacks = afterCommit.get();
+        if (callbacks == null) {
+            callback.run();
+        } else {
+            callbacks.add(callback);
+        }
+    }
+
+    public <T> T inTransaction(UnitOfWork<T> work) throws SQLException {
+        if (current.get() != null) {
+            return work.execute();
+        }
+
+        List<Runnable> callbacks = new ArrayList<>();
+        T result;
+        try (Connection conn = target.getConnection()) {
+            conn.setAutoCommit(false);
+            current.set(conn);
+            afterCommit.set(callbacks);
+            try {
+                result = work.execute();
+                conn.commit();
+            } catch (SQLException | RuntimeException e) {
+                rollbackQuietly(conn, e);
+                throw e;
+            } finally {
+                current.remove();
+                afterCommit.remove();
+            }
+        }
+
+        for (Runnable callback : callbacks) {
+            callback.run();
+        }
+        return result;
+    }
+
+    private static void rollbackQuietly(Connection conn, Exception cause) {
+        try {
+            conn.rollback();
+        } catch (SQLException e) {
+            cause.addSuppressed(e);
+        }
+    }
+
+    private static Connection participate(Connection bound) {
+        boolean[] closed = new boolean[1];
+        return (Connection) Proxy.newProxyInstance(TransactionalDataSource.class.getClassLoader(),
+                new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "close":
+                            closed[0] = true;
+                            return null;
+                        case "isClosed":
+                            return closed[0] || bound.isClosed();
+                        case "commit":
+                        case "setAutoCommit":
+                            return null;
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        default:
+                            break;
+                    }
+                    if (closed[0]) {
+                        throw new SQLException("Conexão já fechada.");
+                    }
+                    try {
+                        return method.invoke(bound, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("O pool usa as credenciais configuradas.");
+    }
+
+    @Override
+    public PrintWriter getLogWriter() {
+        return null;
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) {
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) {
+    }
+
+    @Override
+    public int getLoginTimeout() {
+        return 0;
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        return target.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || target.isWrapperFor(iface);
+    }
+}
@@ -0,0 +1,8 @@
+package com.disasterawareness.utils;
+
+import java.sql.SQLException;
+
+@FunctionalInterface
+public interface UnitOfWork<T> {
+    T execute() throws SQLException;
+}
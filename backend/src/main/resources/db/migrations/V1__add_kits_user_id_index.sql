@@ -0,0 +1,2 @@
+-- GET /api/kit filtra os kits do usuário autenticado por user_id
+CREATE INDEX idx_kits_user_id ON kits(user_id);
@@ -0,0 +1,2 @@
+-- Leaderboard ordenada por score: o índice cobre a ordenação e as colunas exibidas
+CREATE INDEX idx_users_leaderboard ON users(score DESC, user_id, name);
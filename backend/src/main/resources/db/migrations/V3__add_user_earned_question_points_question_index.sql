@@ -0,0 +1,3 @@
+-- Buscas por user_id já usam uk_user_question (user_id, question_id);
+-- question_id precisa de índice próprio para o ON DELETE CASCADE de questions
+CREATE INDEX idx_ueqp_question_id ON user_earned_question_points(question_id);
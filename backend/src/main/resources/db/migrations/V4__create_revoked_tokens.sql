@@ -0,0 +1,9 @@
+-- Tokens revogados por logout (token_id = jti) e revogações por usuário
+-- (token_id = 'user:<id>', invalida tokens emitidos até revoked_at)
+CREATE TABLE revoked_tokens (
+    token_id VARCHAR2(64) PRIMARY KEY,
+    revoked_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    expires_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_revoked_tokens_expires_at ON revoked_tokens(expires_at);
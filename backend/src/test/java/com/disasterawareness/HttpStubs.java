@@ -0,0 +1,240 @@
+package com.disasterawareness;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.io.Writer;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+public final class HttpStubs {
+
+    public static class Request {
+        private final String method;
+        private final String servletPath;
+        private final String pathInfo;
+        private final Map<String, String> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        private final Map<String, String> parameters = new HashMap<>();
+        private final Map<String, Object> attributes = new HashMap<>();
+        private String body = "";
+        private boolean asyncStarted;
+
+        public Request(String method, String servletPath, String pathInfo) {
+            this.method = method;
+            this.servletPath = servletPath;
+            this.pathInfo = pathInfo;
+        }
+
+        public Request header(String name, String value) {
+            headers.put(name, value);
+            return this;
+        }
+
+        public Request parameter(String name, String value) {
+            parameters.put(name, value);
+            return this;
+        }
+
+        public Request attribute(String name, Object value) {
+            attributes.put(name, value);
+            return this;
+        }
+
+        public Request body(String body) {
+            this.body = body;
+            return this;
+        }
+
+        public Request asyncStarted() {
+            this.asyncStarted = true;
+            return this;
+        }
+
+        public HttpServletRequest build() {
+            return (HttpServletRequest) Proxy.newProxyInstance(HttpStubs.class.getClassLoader(),
+                    new Class<?>[] { HttpServletRequest.class }, (proxy, m, args) -> {
+                        switch (m.getName()) {
+                            case "getMethod":
+                                return method;
+                            case "getServletPath":
+                                return servletPath;
+                            case "getPathInfo":
+                                return pathInfo;
+                            case "getContextPath":
+                                return "";
+                            case "getHeader":
+                                return headers.get((String) args[0]);
+                            case "getParameter":
+                                return parameters.get((String) args[0]);
+                            case "getQueryString":
+                                return null;
+                            case "getAttribute":
+                                return attributes.get((String) args[0]);
+                            case "setAttribute":
+                                attributes.put((String) args[0], args[1]);
+                                return null;
+                            case "removeAttribute":
+                                attributes.remove((String) args[0]);
+                                return null;
+                            case "getReader":
+                                return new BufferedReader(new StringReader(body));
+                            case "isAsyncStarted":
+                                return asyncStarted;
+                            case "hashCode":
+                                return System.identityHashCode(proxy);
+                            case "equals":
+                                return proxy == args[0];
+                            default:
+                                return null;
+                        }
+                    });
+        }
+    }
+
+    public static class Response {
+        private final Map<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        private int status = HttpServletResponse.SC_OK;
+        private long contentLength = -1;
+        private String contentType;
+        private boolean committed;
+
+        public int getStatus() {
+            return status;
+        }
+
+        public String getHeader(String name) {
+            List<String> values = headers.get(name);
+            return values == null ? null : values.get(0);
+        }
+
+        public long getContentLength() {
+            return contentLength;
+        }
+
+        public byte[] getBody() {
+            return body.toByteArray();
+        }
+
+        public String getBodyAsString() {
+            return new String(body.toByteArray(), StandardCharsets.UTF_8);
+        }
+
+        public HttpServletResponse build() {
+            ServletOutputStream stream = new ServletOutputStream() {
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setWriteListener(WriteListener writeListener) {
+                }
+
+                @Override
+                public void write(int b) {
+                    committed = true;
+                    body.write(b);
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) {
+                    committed = true;
+                    body.write(b, off, len);
+                }
+            };
+
+            PrintWriter writer = new PrintWriter(new Writer() {
+                @Override
+                public void write(char[] chars, int offset, int length) {
+                    byte[] bytes = new String(chars, offset, length).getBytes(StandardCharsets.UTF_8);
+                    committed = true;
+                    body.write(bytes, 0, bytes.length);
+                }
+
+                @Override
+                public void flush() {
+                }
+
+                @Override
+                public void close() {
+                }
+            });
+
+            return (HttpServletResponse) Proxy.newProxyInstance(HttpStubs.class.getClassLoader(),
+                    new Class<?>[] { HttpServletResponse.class }, (proxy, m, args) -> {
+                        switch (m.getName()) {
+                            case "getOutputStream":
+                                return stream;
+                            case "getWriter":
+                                return writer;
+                            case "setStatus":
+                                if (!committed) {
+                                    status = (Integer) args[0];
+                                }
+                                return null;
+                            case "getStatus":
+                                return status;
+                            case "setHeader":
+                                if (!committed) {
+                                    List<String> values = new ArrayList<>();
+                                    values.add((String) args[1]);
+                                    headers.put((String) args[0], values);
+                                }
+                                return null;
+                            case "addHeader":
+                                if (!committed) {
+                                    headers.computeIfAbsent((String) args[0], k -> new ArrayList<>()).add((String) args[1]);
+                                }
+                                return null;
+                            case "getHeader":
+                                return getHeader((String) args[0]);
+                            case "containsHeader":
+                                return headers.containsKey((String) args[0]);
+                            case "setContentType":
+                                contentType = (String) args[0];
+                                return null;
+                            case "getContentType":
+                                return contentType;
+                            case "getCharacterEncoding":
+                                return "UTF-8";
+                            case "setContentLength":
+                                if (!committed) {
+                                    contentLength = (Integer) args[0];
+                                }
+                                return null;
+                            case "setContentLengthLong":
+                                if (!committed) {
+                                    contentLength = (Long) args[0];
+                                }
+                                return null;
+                            case "isCommitted":
+                                return committed;
+                            case "flushBuffer":
+                                committed = true;
+                                return null;
+                            case "hashCode":
+                                return System.identityHashCode(proxy);
+                            case "equals":
+                                return proxy == args[0];
+                            default:
+                                return null;
+                        }
+                    });
+        }
+    }
+
+    private HttpStubs() {
+    }
+}
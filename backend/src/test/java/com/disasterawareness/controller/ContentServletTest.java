@@ -0,0 +1,78 @@
+package com.disasterawareness.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import javax.servlet.http.HttpServletResponse;
+
+import org.junit.jupiter.api.Test;
+
+import com.disasterawareness.HttpStubs;
+import com.disasterawareness.service.ContentService;
+
+class ContentServletTest {
+    private final ContentServlet servlet = new ContentServlet();
+
+    private HttpStubs.Response get(HttpStubs.Request request) throws Exception {
+        HttpStubs.Response response = new HttpStubs.Response();
+        servlet.service(request.build(), response.build());
+        return response;
+    }
+
+    @Test
+    void existingContentGetsValidatorAndRevalidates() throws Exception {
+        HttpStubs.Response first = get(new HttpStubs.Request("GET", "/api/content", "/1"));
+        assertEquals(HttpServletResponse.SC_OK, first.getStatus());
+        String etag = first.getHeader("ETag");
+        assertNotNull(etag);
+        assertTrue(first.getBodyAsString().contains("\"contentId\":1"));
+
+        HttpStubs.Response second = get(new HttpStubs.Request("GET", "/api/content", "/1")
+                .header("If-None-Match", etag));
+        assertEquals(HttpServletResponse.SC_NOT_MODIFIED, second.getStatus());
+        assertEquals(0, second.getBody().length);
+    }
+
+    @Test
+    void matchingValidatorIsAnsweredWithoutLoadingContent() throws Exception {
+        String etag = new ContentService().getContentETag("/999999?null");
+
+        HttpStubs.Response response = get(new HttpStubs.Request("GET", "/api/content", "/999999")
+                .header("If-None-Match", etag));
+        assertEquals(HttpServletResponse.SC_NOT_MODIFIED, response.getStatus());
+        assertEquals(0, response.getBody().length);
+    }
+
+    @Test
+    void missingContentIsNotFoundWithoutValidator() throws Exception {
+        HttpStubs.Response response = get(new HttpStubs.Request("GET", "/api/content", "/999999"));
+        assertEquals(HttpServletResponse.SC_NOT_FOUND, response.getStatus());
+        assertNull(response.getHeader("ETag"));
+    }
+
+    @Test
+    void missingContentIsNeverNotModified() throws Exception {
+        HttpStubs.Response response = get(new HttpStubs.Request("GET", "/api/content", "/999999")
+                .header("If-None-Match", "*"));
+        assertEquals(HttpServletResponse.SC_NOT_FOUND, response.getStatus());
+        assertTrue(response.getBodyAsString().contains("error"));
+    }
+
+    @Test
+    void malformedPaginationIsBadRequest() throws Exception {
+        HttpStubs.Response response = get(new HttpStubs.Request("GET", "/api/content", null)
+                .parameter("limit", "abc"));
+        assertEquals(HttpServletResponse.SC_BAD_REQUEST, response.getStatus());
+        assertNull(response.getHeader("ETag"));
+        assertTrue(response.getBodyAsString().contains("Parâmetros de paginação inválidos."));
+    }
+
+    @Test
+    void listIsOkBeforeBodyIsWritten() throws Exception {
+        HttpStubs.Response response = get(new HttpStubs.Request("GET", "/api/content", null));
+        assertEquals(HttpServletResponse.SC_OK, response.getStatus());
+        assertTrue(response.getBodyAsString().startsWith("["));
+    }
+}
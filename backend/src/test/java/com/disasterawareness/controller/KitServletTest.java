@@ -0,0 +1,40 @@
+package com.disasterawareness.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import javax.servlet.http.HttpServletResponse;
+
+import org.junit.jupiter.api.Test;
+
+import com.disasterawareness.HttpStubs;
+
+class KitServletTest {
+    private final KitServlet servlet = new KitServlet();
+
+    private HttpStubs.Response get(HttpStubs.Request request) throws Exception {
+        HttpStubs.Response response = new HttpStubs.Response();
+        servlet.service(request.attribute("userId", 1L).attribute("isAdmin", false).build(), response.build());
+        return response;
+    }
+
+    @Test
+    void malformedPaginationIsBadRequest() throws Exception {
+        HttpStubs.Response response = get(new HttpStubs.Request("GET", "/api/kit", null).parameter("limit", "0"));
+        assertEquals(HttpServletResponse.SC_BAD_REQUEST, response.getStatus());
+        assertTrue(response.getBodyAsString().contains("O limite deve estar entre 1 e 100."));
+    }
+
+    @Test
+    void missingKitIsNotFound() throws Exception {
+        HttpStubs.Response response = get(new HttpStubs.Request("GET", "/api/kit", "/999999"));
+        assertEquals(HttpServletResponse.SC_NOT_FOUND, response.getStatus());
+    }
+
+    @Test
+    void pagedListIsOk() throws Exception {
+        HttpStubs.Response response = get(new HttpStubs.Request("GET", "/api/kit", null).parameter("limit", "5"));
+        assertEquals(HttpServletResponse.SC_OK, response.getStatus());
+        assertTrue(response.getBodyAsString().contains("\"items\""));
+    }
+}
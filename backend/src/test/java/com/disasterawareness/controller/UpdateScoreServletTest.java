@@ -0,0 +1,43 @@
+package com.disasterawareness.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import javax.servlet.http.HttpServletResponse;
+
+import org.junit.jupiter.api.Test;
+
+import com.disasterawareness.HttpStubs;
+import com.disasterawareness.model.User;
+import com.disasterawareness.service.UserService;
+import com.disasterawareness.utils.JsonCodec;
+
+class UpdateScoreServletTest {
+
+    @Test
+    void returnsTheFullUpdatedUser() throws Exception {
+        UserService userService = new UserService();
+        User user = userService.registerUser("Placar", "placar-" + System.nanoTime() + "@example.com", "segredo");
+
+        HttpStubs.Response response = new HttpStubs.Response();
+        new UpdateScoreServlet().service(new HttpStubs.Request("PUT", "/api/admin/user/score", null)
+                .body("{\"userId\":" + user.getUserId() + ",\"score\":15}").build(), response.build());
+
+        assertEquals(HttpServletResponse.SC_OK, response.getStatus());
+        User updated = JsonCodec.gson().fromJson(response.getBodyAsString(), User.class);
+        assertEquals(user.getUserId(), updated.getUserId());
+        assertEquals(user.getName(), updated.getName());
+        assertEquals(user.getEmail(), updated.getEmail());
+        assertEquals(15, updated.getScore());
+        assertFalse(response.getBodyAsString().contains("passwordHash"));
+    }
+
+    @Test
+    void unknownUserIsBadRequest() throws Exception {
+        HttpStubs.Response response = new HttpStubs.Response();
+        new UpdateScoreServlet().service(new HttpStubs.Request("PUT", "/api/admin/user/score", null)
+                .body("{\"userId\":987654321,\"score\":5}").build(), response.build());
+
+        assertEquals(HttpServletResponse.SC_BAD_REQUEST, response.getStatus());
+    }
+}
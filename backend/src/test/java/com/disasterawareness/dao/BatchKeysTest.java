@@ -0,0 +1,53 @@
+package com.disasterawareness.dao;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.junit.jupiter.api.Test;
+
+class BatchKeysTest {
+
+    private static PreparedStatement statementReturning(long... keys) {
+        int[] position = { -1 };
+        ResultSet rs = (ResultSet) Proxy.newProxyInstance(BatchKeysTest.class.getClassLoader(),
+                new Class<?>[] { ResultSet.class }, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "next":
+                            return ++position[0] < keys.length;
+                        case "getLong":
+                            return keys[position[0]];
+                        default:
+                            return null;
+                    }
+                });
+        return (PreparedStatement) Proxy.newProxyInstance(BatchKeysTest.class.getClassLoader(),
+                new Class<?>[] { PreparedStatement.class }, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "executeBatch":
+                            return new int[keys.length];
+                        case "getGeneratedKeys":
+                            return rs;
+                        default:
+                            return null;
+                    }
+                });
+    }
+
+    @Test
+    void returnsKeysInBatchOrder() throws Exception {
+        assertArrayEquals(new long[] { 7, 8, 9 }, BatchKeys.execute(statementReturning(7, 8, 9), 3, "kits"));
+    }
+
+    @Test
+    void rejectsShortKeyResult() {
+        SQLException e = assertThrows(SQLException.class,
+                () -> BatchKeys.execute(statementReturning(7, 8), 3, "conteúdos"));
+        assertTrue(e.getMessage().contains("esperadas 3"));
+    }
+}
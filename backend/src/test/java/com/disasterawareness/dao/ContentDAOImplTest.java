@@ -0,0 +1,42 @@
+package com.disasterawareness.dao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.disasterawareness.model.Content;
+
+class ContentDAOImplTest {
+    private final ContentDAOImpl contentDAO = new ContentDAOImpl();
+
+    @Test
+    void createAllAssignsEveryGeneratedIdAcrossBatches() throws Exception {
+        List<Content> contents = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            contents.add(new Content("SECA", "Importado " + i, "Descrição " + i, null));
+        }
+
+        contentDAO.createAll(contents, 2);
+
+        Set<Long> ids = new HashSet<>();
+        for (Content content : contents) {
+            assertNotNull(content.getContentId());
+            ids.add(content.getContentId());
+            Content stored = contentDAO.findById(content.getContentId());
+            assertEquals(content.getTitle(), stored.getTitle());
+        }
+        assertEquals(5, ids.size());
+    }
+
+    @Test
+    void findByIdReturnsNullForMissingRow() throws Exception {
+        assertTrue(contentDAO.findById(987654321L) == null);
+    }
+}
@@ -0,0 +1,107 @@
+package com.disasterawareness.dao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+
+import com.disasterawareness.model.User;
+import com.disasterawareness.service.UserService;
+import com.disasterawareness.utils.ConnectionFactory;
+
+class UserEarnedQuestionPointsDAOImplTest {
+    private final UserEarnedQuestionPointsDAOImpl dao = new UserEarnedQuestionPointsDAOImpl();
+
+    private static Long newUser() throws SQLException {
+        User user = new UserService().registerUser("Pontos", "pontos-" + System.nanoTime() + "@example.com",
+                "segredo");
+        return user.getUserId();
+    }
+
+    private static Set<Long> ids(Long... ids) {
+        return new LinkedHashSet<>(Arrays.asList(ids));
+    }
+
+    @Test
+    void recordsOnlyQuestionsNotEarnedBefore() throws Exception {
+        Long userId = newUser();
+
+        Set<Long> first = ConnectionFactory.inTransaction(
+                () -> dao.recordUserEarnedPointsForQuestions(userId, ids(1L, 2L, 3L)));
+        Set<Long> second = ConnectionFactory.inTransaction(
+                () -> dao.recordUserEarnedPointsForQuestions(userId, ids(2L, 3L, 4L)));
+
+        assertEquals(ids(1L, 2L, 3L), first);
+        assertEquals(ids(4L), second);
+    }
+
+    @Test
+    void recordsOneAtATimeOutsideTransaction() throws Exception {
+        Long userId = newUser();
+
+        assertEquals(ids(1L, 2L), dao.recordUserEarnedPointsForQuestions(userId, ids(1L, 2L)));
+        assertEquals(Collections.emptySet(), dao.recordUserEarnedPointsForQuestions(userId, ids(1L)));
+    }
+
+    @Test
+    void failedBatchIsRetriedRowByRow() throws Exception {
+        Long userId = newUser();
+        UserEarnedQuestionPointsDAOImpl failingBatch = new UserEarnedQuestionPointsDAOImpl(failingBatchDataSource());
+
+        Set<Long> inserted = ConnectionFactory.inTransaction(
+                () -> failingBatch.recordUserEarnedPointsForQuestions(userId, ids(1L, 2L, 3L)));
+
+        assertEquals(ids(1L, 2L, 3L), inserted);
+        assertEquals(Collections.emptySet(), ConnectionFactory.inTransaction(
+                () -> dao.recordUserEarnedPointsForQuestions(userId, ids(1L, 2L, 3L))));
+    }
+
+    private static DataSource failingBatchDataSource() {
+        return (DataSource) Proxy.newProxyInstance(UserEarnedQuestionPointsDAOImplTest.class.getClassLoader(),
+                new Class<?>[] { DataSource.class }, (proxy, method, args) -> {
+                    if (!method.getName().equals("getConnection")) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    Connection conn = ConnectionFactory.getDataSource().getConnection();
+                    return Proxy.newProxyInstance(UserEarnedQuestionPointsDAOImplTest.class.getClassLoader(),
+                            new Class<?>[] { Connection.class }, (c, m, a) -> {
+                                Object result = invoke(conn, m, a);
+                                return m.getName().equals("prepareStatement")
+                                        ? failingBatch((PreparedStatement) result)
+                                        : result;
+                            });
+                });
+    }
+
+    private static PreparedStatement failingBatch(PreparedStatement stmt) {
+        return (PreparedStatement) Proxy.newProxyInstance(UserEarnedQuestionPointsDAOImplTest.class.getClassLoader(),
+                new Class<?>[] { PreparedStatement.class }, (proxy, method, args) -> {
+                    Object result = invoke(stmt, method, args);
+                    if (method.getName().equals("executeBatch")) {
+                        throw new BatchUpdateException("violação de chave única", "23000", new int[0]);
+                    }
+                    return result;
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.disasterawareness.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import javax.servlet.FilterChain;
+import javax.servlet.FilterConfig;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.disasterawareness.HttpStubs;
+
+class CompressionFilterTest {
+    private static final String LARGE_BODY = "[" + "{\"id\":1,\"title\":\"Enchente\"},".repeat(200) + "{}]";
+
+    private CompressionFilter filter;
+
+    @BeforeEach
+    void setUp() throws ServletException {
+        filter = new CompressionFilter();
+        filter.init((FilterConfig) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { FilterConfig.class }, (proxy, method, args) -> null));
+    }
+
+    private static HttpStubs.Request gzipRequest() {
+        return new HttpStubs.Request("GET", "/api/content", null).header("Accept-Encoding", "gzip");
+    }
+
+    private static FilterChain writing(String body) {
+        return (request, response) -> {
+            response.setContentType("application/json");
+            response.getOutputStream().write(body.getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    private static String gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Test
+    void compressesLargeJson() throws Exception {
+        HttpStubs.Response response = new HttpStubs.Response();
+        filter.doFilter(gzipRequest().build(), response.build(), writing(LARGE_BODY));
+
+        assertEquals("gzip", response.getHeader("Content-Encoding"));
+        assertEquals(LARGE_BODY, gunzip(response.getBody()));
+    }
+
+    @Test
+    void smallBodyIsSentAsIs() throws Exception {
+        HttpStubs.Response response = new HttpStubs.Response();
+        filter.doFilter(gzipRequest().build(), response.build(), writing("{}"));
+
+        assertNull(response.getHeader("Content-Encoding"));
+        assertEquals("{}", response.getBodyAsString());
+        assertEquals(2, response.getContentLength());
+    }
+
+    @Test
+    void failedResponseIsLeftTruncated() throws Exception {
+        HttpStubs.Response response = new HttpStubs.Response();
+        FilterChain failing = (request, resp) -> {
+            writing(LARGE_BODY).doFilter(request, resp);
+            throw new IOException("falha no meio da resposta");
+        };
+
+        assertThrows(IOException.class, () -> filter.doFilter(gzipRequest().build(), response.build(), failing));
+        assertThrows(EOFException.class, () -> gunzip(response.getBody()));
+    }
+
+    @Test
+    void asyncRequestIsNotCompressed() throws Exception {
+        HttpStubs.Response response = new HttpStubs.Response();
+        filter.doFilter(gzipRequest().asyncStarted().build(), response.build(), writing(LARGE_BODY));
+
+        assertNull(response.getHeader("Content-Encoding"));
+        assertEquals(LARGE_BODY, response.getBodyAsString());
+    }
+
+    @Test
+    void writeListenerIsDelegatedUncompressed() throws Exception {
+        HttpStubs.Response response = new HttpStubs.Response();
+        FilterChain nonBlocking = (request, resp) -> {
+            resp.setContentType("application/json");
+            ServletOutputStream out = resp.getOutputStream();
+            out.setWriteListener(new WriteListener() {
+                @Override
+                public void onWritePossible() {
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                }
+            });
+            out.write(LARGE_BODY.getBytes(StandardCharsets.UTF_8));
+        };
+
+        filter.doFilter(gzipRequest().build(), response.build(), nonBlocking);
+
+        assertNull(response.getHeader("Content-Encoding"));
+        assertEquals(LARGE_BODY, response.getBodyAsString());
+    }
+}
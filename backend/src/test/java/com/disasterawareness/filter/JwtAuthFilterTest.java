@@ -0,0 +1,63 @@
+package com.disasterawareness.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.servlet.FilterChain;
+import javax.servlet.http.HttpServletResponse;
+
+import org.junit.jupiter.api.Test;
+
+import com.disasterawareness.HttpStubs;
+
+class JwtAuthFilterTest {
+    private final JwtAuthFilter filter = new JwtAuthFilter();
+
+    private boolean run(HttpStubs.Request request, HttpStubs.Response response) throws Exception {
+        AtomicBoolean reached = new AtomicBoolean();
+        FilterChain chain = (req, resp) -> reached.set(true);
+        filter.doFilter(request.build(), response.build(), chain);
+        return reached.get();
+    }
+
+    @Test
+    void publicRoutesPassWithoutToken() throws Exception {
+        HttpStubs.Response response = new HttpStubs.Response();
+        assertTrue(run(new HttpStubs.Request("GET", "/api/content", null), response));
+        assertEquals(HttpServletResponse.SC_OK, response.getStatus());
+    }
+
+    @Test
+    void tokenlessPostToUnmatchedPathIsUnauthorized() throws Exception {
+        HttpStubs.Response kit = new HttpStubs.Response();
+        assertFalse(run(new HttpStubs.Request("POST", "/api/kit", "/x"), kit));
+        assertEquals(HttpServletResponse.SC_UNAUTHORIZED, kit.getStatus());
+
+        HttpStubs.Response content = new HttpStubs.Response();
+        assertFalse(run(new HttpStubs.Request("POST", "/api/content", "/x"), content));
+        assertEquals(HttpServletResponse.SC_UNAUTHORIZED, content.getStatus());
+    }
+
+    @Test
+    void tokenlessPostWithTrailingSlashIsUnauthorized() throws Exception {
+        HttpStubs.Response response = new HttpStubs.Response();
+        assertFalse(run(new HttpStubs.Request("POST", "/api/kit", "/"), response));
+        assertEquals(HttpServletResponse.SC_UNAUTHORIZED, response.getStatus());
+    }
+
+    @Test
+    void invalidTokenIsUnauthorized() throws Exception {
+        HttpStubs.Response response = new HttpStubs.Response();
+        assertFalse(run(new HttpStubs.Request("GET", "/api/kit", null).header("Authorization", "Bearer nope"),
+                response));
+        assertEquals(HttpServletResponse.SC_UNAUTHORIZED, response.getStatus());
+    }
+
+    @Test
+    void preflightRequestsPass() throws Exception {
+        assertTrue(run(new HttpStubs.Request("OPTIONS", "/api/kit", "/x"), new HttpStubs.Response()));
+    }
+}
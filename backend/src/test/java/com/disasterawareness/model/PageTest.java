@@ -0,0 +1,40 @@
+package com.disasterawareness.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+class PageTest {
+    private static final Function<Long, Long> ID = id -> id;
+
+    @Test
+    void extraRowBecomesCursorOfLastReturnedItem() {
+        Page<Long> page = Page.of(Arrays.asList(3L, 5L, 8L), 2, ID);
+
+        assertEquals(Arrays.asList(3L, 5L), page.getItems());
+        assertEquals(5L, page.getNextCursor());
+    }
+
+    @Test
+    void lastPageHasNoCursor() {
+        List<Long> rows = Arrays.asList(3L, 5L);
+        Page<Long> page = Page.of(rows, 2, ID);
+
+        assertEquals(rows, page.getItems());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void emptyPageHasNoCursor() {
+        Page<Long> page = Page.of(Collections.<Long>emptyList(), 20, ID);
+
+        assertEquals(0, page.getItems().size());
+        assertNull(page.getNextCursor());
+    }
+}
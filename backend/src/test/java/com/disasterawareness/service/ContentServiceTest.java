@@ -0,0 +1,63 @@
+package com.disasterawareness.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import com.disasterawareness.model.Content;
+import com.disasterawareness.utils.ConnectionFactory;
+
+class ContentServiceTest {
+    private final ContentService contentService = new ContentService();
+    private final ImportService importService = new ImportService(new KitService(), contentService);
+
+    private String json(String disasterType) throws SQLException {
+        return new String(contentService.getContentJsonByDisasterType(disasterType, false).getJson(),
+                StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void cachedContentIsInvalidatedOnlyAfterCommit() throws Exception {
+        String disasterType = "TIPO-" + System.nanoTime();
+        ContentResponseCache.Body before = contentService.getContentJsonByDisasterType(disasterType, false);
+
+        ContentResponseCache.Body inside = ConnectionFactory.inTransaction(() -> {
+            contentService.createContent(disasterType, "Abrigo", "Procure abrigo.", "https://example.com/v");
+            return contentService.getContentJsonByDisasterType(disasterType, false);
+        });
+
+        assertSame(before, inside);
+        assertTrue(json(disasterType).contains("Abrigo"));
+    }
+
+    @Test
+    void importedContentIsVisibleAfterCommit() throws Exception {
+        String disasterType = "TIPO-" + System.nanoTime();
+        assertFalse(json(disasterType).contains("Evacuação"));
+
+        importService.importContents(Collections.singletonList(
+                new Content(disasterType, "Evacuação", "Siga as rotas.", "https://example.com/e")), 10);
+
+        assertTrue(json(disasterType).contains("Evacuação"));
+    }
+
+    @Test
+    void rolledBackContentKeepsCache() throws Exception {
+        String disasterType = "TIPO-" + System.nanoTime();
+        ContentResponseCache.Body before = contentService.getContentJsonByDisasterType(disasterType, false);
+
+        assertThrows(SQLException.class, () -> ConnectionFactory.inTransaction(() -> {
+            contentService.createContent(disasterType, "Descartado", "Não confirmado.", "https://example.com/d");
+            throw new SQLException("falha no commit");
+        }));
+
+        assertSame(before, contentService.getContentJsonByDisasterType(disasterType, false));
+    }
+}
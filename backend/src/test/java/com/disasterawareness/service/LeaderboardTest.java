@@ -0,0 +1,189 @@
+package com.disasterawareness.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.disasterawareness.dao.UserDAO;
+import com.disasterawareness.model.LeaderboardPosition;
+import com.disasterawareness.model.User;
+
+class LeaderboardTest {
+    private final List<User> stored = new CopyOnWriteArrayList<>();
+    private volatile boolean failLoads;
+    private Leaderboard leaderboard;
+
+    private static User user(long id, int score) {
+        User user = new User("Usuário " + id, "u" + id + "@example.com", "hash");
+        user.setUserId(id);
+        user.setScore(score);
+        return user;
+    }
+
+    private static List<Long> ids(List<User> users) {
+        return users.stream().map(User::getUserId).collect(Collectors.toList());
+    }
+
+    @BeforeEach
+    void setUp() {
+        stored.add(user(1, 50));
+        stored.add(user(2, 80));
+        stored.add(user(3, 50));
+        stored.add(user(4, 10));
+        stored.add(user(5, 90));
+        UserDAO dao = (UserDAO) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { UserDAO.class },
+                (proxy, method, args) -> {
+                    if (method.getName().equals("getLeaderboard")) {
+                        if (failLoads) {
+                            throw new SQLException("banco indisponível");
+                        }
+                        return new ArrayList<>(stored);
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        leaderboard = new Leaderboard(dao);
+    }
+
+    @Test
+    void ordersByScoreThenUserId() throws Exception {
+        assertEquals(List.of(5L, 2L, 1L, 3L, 4L), ids(leaderboard.top(10)));
+        assertEquals(5, leaderboard.size());
+    }
+
+    @Test
+    void slicesByOffsetAndByCursor() throws Exception {
+        assertEquals(List.of(1L, 3L), ids(leaderboard.range(2, 2)));
+        assertEquals(List.of(3L, 4L), ids(leaderboard.after(1L, 5)));
+        assertTrue(leaderboard.range(9, 3).isEmpty());
+        assertTrue(leaderboard.after(99L, 3).isEmpty());
+    }
+
+    @Test
+    void setScoreMovesUser() throws Exception {
+        leaderboard.top(1);
+        leaderboard.setScore(4L, 100, leaderboard.nextVersion());
+        assertEquals(List.of(4L, 5L, 2L, 1L, 3L), ids(leaderboard.top(10)));
+
+        leaderboard.setScore(4L, 0, leaderboard.nextVersion());
+        assertEquals(List.of(5L, 2L, 1L, 3L, 4L), ids(leaderboard.top(10)));
+    }
+
+    @Test
+    void setScoreIgnoresUnknownUsers() throws Exception {
+        leaderboard.top(1);
+        assertFalse(leaderboard.tracks(42L));
+        leaderboard.setScore(42L, 1_000, leaderboard.nextVersion());
+        assertEquals(5, leaderboard.size());
+    }
+
+    @Test
+    void putAndRemoveKeepSizesConsistent() throws Exception {
+        leaderboard.top(1);
+        leaderboard.put(6L, "Novo", 60, leaderboard.nextVersion());
+        assertEquals(List.of(5L, 2L, 6L, 1L, 3L, 4L), ids(leaderboard.top(10)));
+
+        leaderboard.remove(2L);
+        assertEquals(List.of(5L, 6L, 1L, 3L, 4L), ids(leaderboard.top(10)));
+        assertEquals(5, leaderboard.size());
+    }
+
+    @Test
+    void olderScoreDoesNotOverwriteNewerOne() throws Exception {
+        leaderboard.top(1);
+        long older = leaderboard.nextVersion();
+        long newer = leaderboard.nextVersion();
+
+        leaderboard.setScore(4L, 120, newer);
+        leaderboard.setScore(4L, 100, older);
+        assertEquals(120, leaderboard.range(0, 1).get(0).getScore());
+
+        leaderboard.put(6L, "Novo", 70, newer);
+        leaderboard.put(6L, "Novo", 60, older);
+        assertEquals(List.of(4L, 5L, 2L, 6L, 1L, 3L), ids(leaderboard.top(10)));
+    }
+
+    @Test
+    void positionIncludesNeighbours() throws Exception {
+        LeaderboardPosition position = leaderboard.positionOf(1L, 1);
+        assertEquals(3, position.getRank());
+        assertEquals(5, position.getTotalUsers());
+        assertEquals(List.of(2L), ids(position.getAbove()));
+        assertEquals(List.of(3L), ids(position.getBelow()));
+
+        assertNull(leaderboard.positionOf(99L, 1));
+    }
+
+    @Test
+    void renameKeepsScore() throws Exception {
+        leaderboard.top(1);
+        leaderboard.rename(3L, "Renomeado");
+        User renamed = leaderboard.range(3, 1).get(0);
+        assertEquals("Renomeado", renamed.getName());
+        assertEquals(50, renamed.getScore());
+    }
+
+    @Test
+    void reloadReplacesContentsFromDatabase() throws Exception {
+        leaderboard.top(1);
+        stored.clear();
+        stored.add(user(7, 5));
+        leaderboard.reload();
+        assertEquals(List.of(7L), ids(leaderboard.top(10)));
+    }
+
+    @Test
+    void readsDoNotReloadAfterFirstLoad() throws Exception {
+        leaderboard.top(1);
+        stored.clear();
+        assertEquals(5, leaderboard.size());
+    }
+
+    @Test
+    void scheduledReloadRunsInBackground() throws Exception {
+        leaderboard.top(1);
+        stored.clear();
+        stored.add(user(7, 5));
+
+        leaderboard.scheduleReloads(10, e -> {
+        });
+        try {
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (leaderboard.size() != 1 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+        } finally {
+            leaderboard.stopReloads();
+        }
+        assertEquals(List.of(7L), ids(leaderboard.top(10)));
+    }
+
+    @Test
+    void scheduledReloadReportsFailures() throws Exception {
+        leaderboard.top(1);
+        failLoads = true;
+        List<SQLException> failures = new CopyOnWriteArrayList<>();
+
+        leaderboard.scheduleReloads(10, failures::add);
+        try {
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (failures.isEmpty() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+        } finally {
+            leaderboard.stopReloads();
+        }
+        assertFalse(failures.isEmpty());
+        assertEquals(5, leaderboard.size());
+    }
+}
@@ -0,0 +1,137 @@
+package com.disasterawareness.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.disasterawareness.dao.RevokedTokenDAO;
+import com.disasterawareness.model.RevokedToken;
+
+class TokenRevocationServiceTest {
+    private final List<RevokedToken> stored = new CopyOnWriteArrayList<>();
+    private volatile Runnable duringLoad;
+    private volatile boolean failLoads;
+    private TokenRevocationService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new TokenRevocationService(new RevokedTokenDAO() {
+            @Override
+            public void revoke(RevokedToken token) {
+                stored.add(token);
+            }
+
+            @Override
+            public List<RevokedToken> findActive(Date now) throws SQLException {
+                if (failLoads) {
+                    throw new SQLException("banco indisponível");
+                }
+                List<RevokedToken> active = new ArrayList<>();
+                for (RevokedToken token : stored) {
+                    if (token.getExpiresAt().after(now)) {
+                        active.add(token);
+                    }
+                }
+                Runnable hook = duringLoad;
+                if (hook != null) {
+                    duringLoad = null;
+                    hook.run();
+                }
+                return active;
+            }
+
+            @Override
+            public int deleteExpired(Date now) {
+                return 0;
+            }
+        });
+    }
+
+    private static Date future() {
+        return new Date(System.currentTimeMillis() + 60_000);
+    }
+
+    @Test
+    void revokedTokenIdIsRejected() throws SQLException {
+        service.revokeToken("jti-1", future());
+
+        assertTrue(service.isRevoked("jti-1", 7L, new Date()));
+        assertFalse(service.isRevoked("jti-2", 7L, new Date()));
+    }
+
+    @Test
+    void tokenIssuedInSameSecondAsUserRevocationIsRejected() throws SQLException {
+        long revokedAt = System.currentTimeMillis() / 1000 * 1000 + 900;
+        stored.add(new RevokedToken("user:7", new Date(revokedAt), future()));
+        Date issuedAtSeconds = new Date(revokedAt / 1000 * 1000);
+
+        assertTrue(service.isRevoked("jti", 7L, issuedAtSeconds));
+        assertTrue(service.isRevoked("jti", 7L, new Date(issuedAtSeconds.getTime() - 1000)));
+        assertFalse(service.isRevoked("jti", 7L, new Date(issuedAtSeconds.getTime() + 1000)));
+        assertFalse(service.isRevoked("jti", 8L, issuedAtSeconds));
+    }
+
+    @Test
+    void tokenWithoutIdCannotBeRevoked() {
+        assertThrows(IllegalArgumentException.class, () -> service.revokeToken(null, future()));
+    }
+
+    @Test
+    void readsDoNotReloadAfterFirstLoad() throws SQLException {
+        assertFalse(service.isRevoked("jti-1", 7L, new Date()));
+        stored.add(new RevokedToken("jti-1", new Date(), future()));
+
+        assertFalse(service.isRevoked("jti-1", 7L, new Date()));
+        service.refresh();
+        assertTrue(service.isRevoked("jti-1", 7L, new Date()));
+    }
+
+    @Test
+    void revocationDuringRefreshSurvivesTheSwap() throws SQLException {
+        assertFalse(service.isRevoked("jti-1", 7L, new Date()));
+        duringLoad = () -> {
+            try {
+                service.revokeToken("jti-1", future());
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        };
+
+        service.refresh();
+        assertTrue(service.isRevoked("jti-1", 7L, new Date()));
+    }
+
+    @Test
+    void scheduledRefreshRunsInBackgroundAndReportsFailures() throws Exception {
+        assertFalse(service.isRevoked("jti-1", 7L, new Date()));
+        stored.add(new RevokedToken("jti-1", new Date(), future()));
+        List<SQLException> failures = new CopyOnWriteArrayList<>();
+
+        service.scheduleRefresh(10, failures::add);
+        try {
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (!service.isRevoked("jti-1", 7L, new Date()) && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertTrue(service.isRevoked("jti-1", 7L, new Date()));
+
+            failLoads = true;
+            while (failures.isEmpty() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+        } finally {
+            service.stopRefresh();
+        }
+        assertFalse(failures.isEmpty());
+        assertTrue(service.isRevoked("jti-1", 7L, new Date()));
+    }
+}
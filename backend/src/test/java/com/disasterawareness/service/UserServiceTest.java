@@ -0,0 +1,63 @@
+package com.disasterawareness.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.sql.SQLException;
+
+import org.junit.jupiter.api.Test;
+
+import com.disasterawareness.model.LeaderboardPosition;
+import com.disasterawareness.model.User;
+import com.disasterawareness.utils.ConnectionFactory;
+
+class UserServiceTest {
+    private final UserService userService = new UserService();
+
+    private User register() throws SQLException {
+        return userService.registerUser("Ranking", "ranking-" + System.nanoTime() + "@example.com", "segredo");
+    }
+
+    private int leaderboardScore(Long userId) throws SQLException {
+        LeaderboardPosition position = userService.getLeaderboardPosition(userId, 0);
+        return position.getUser().getScore();
+    }
+
+    @Test
+    void scoreReachesLeaderboardOnlyAfterCommit() throws Exception {
+        User user = register();
+        Leaderboard.shared().reload();
+
+        int inside = ConnectionFactory.inTransaction(() -> {
+            userService.incrementUserScore(user.getUserId(), 20);
+            return leaderboardScore(user.getUserId());
+        });
+
+        assertEquals(0, inside);
+        assertEquals(20, leaderboardScore(user.getUserId()));
+        assertEquals(20, userService.getUserById(user.getUserId()).getScore());
+    }
+
+    @Test
+    void rolledBackScoreNeverReachesLeaderboard() throws Exception {
+        User user = register();
+        Leaderboard.shared().reload();
+
+        assertThrows(SQLException.class, () -> ConnectionFactory.inTransaction(() -> {
+            userService.incrementUserScore(user.getUserId(), 30);
+            throw new SQLException("falha no commit");
+        }));
+
+        assertEquals(0, leaderboardScore(user.getUserId()));
+        assertEquals(0, userService.getUserById(user.getUserId()).getScore());
+    }
+
+    @Test
+    void scoreOutsideTransactionIsAppliedImmediately() throws Exception {
+        User user = register();
+        Leaderboard.shared().reload();
+
+        assertEquals(7, userService.incrementUserScore(user.getUserId(), 7));
+        assertEquals(7, leaderboardScore(user.getUserId()));
+    }
+}
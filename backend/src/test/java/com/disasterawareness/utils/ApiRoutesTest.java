@@ -0,0 +1,59 @@
+package com.disasterawareness.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.junit.jupiter.api.Test;
+
+import com.disasterawareness.HttpStubs;
+import com.disasterawareness.utils.Route.Access;
+
+class ApiRoutesTest {
+
+    private static HttpServletRequest request(String method, String servletPath, String pathInfo) {
+        return new HttpStubs.Request(method, servletPath, pathInfo).build();
+    }
+
+    @Test
+    void resolvesRoutesFromServletPathAndPathInfo() {
+        assertTrue(ApiRoutes.match(request("GET", "/api/content", null)).is(ApiRoutes.CONTENT_LIST));
+        assertTrue(ApiRoutes.match(request("GET", "/api/content", "/7")).is(ApiRoutes.CONTENT_GET));
+        assertTrue(ApiRoutes.match(request("GET", "/api/content", "/disaster/ENCHENTE"))
+                .is(ApiRoutes.CONTENT_BY_DISASTER));
+        assertTrue(ApiRoutes.match(request("POST", "/api/quizzes/submit", null)).is(ApiRoutes.QUIZ_SUBMIT));
+    }
+
+    @Test
+    void acceptsTrailingSlashOnListings() {
+        assertTrue(ApiRoutes.match(request("GET", "/api/kit", "/")).is(ApiRoutes.KIT_LIST));
+        assertTrue(ApiRoutes.match(request("GET", "/api/content", "/")).is(ApiRoutes.CONTENT_LIST));
+        assertTrue(ApiRoutes.match(request("POST", "/api/kit", "/")).is(ApiRoutes.KIT_CREATE));
+    }
+
+    @Test
+    void matchedRoutesUseTheirDeclaredAccess() {
+        assertEquals(Access.PUBLIC, ApiRoutes.access(request("GET", "/api/content", null)));
+        assertEquals(Access.PUBLIC, ApiRoutes.access(request("POST", "/api/login", null)));
+        assertEquals(Access.AUTHENTICATED, ApiRoutes.access(request("POST", "/api/content", null)));
+        assertEquals(Access.AUTHENTICATED, ApiRoutes.access(request("GET", "/api/kit", "/3")));
+        assertEquals(Access.AUTHENTICATED, ApiRoutes.access(request("GET", "/api/leaderboard", "/me")));
+        assertEquals(Access.ADMIN, ApiRoutes.access(request("PUT", "/api/admin/user/score", null)));
+    }
+
+    @Test
+    void unmatchedPathsRequireAuthentication() {
+        assertNull(ApiRoutes.match(request("POST", "/api/kit", "/x")));
+        assertEquals(Access.AUTHENTICATED, ApiRoutes.access(request("POST", "/api/kit", "/x")));
+        assertEquals(Access.AUTHENTICATED, ApiRoutes.access(request("POST", "/api/content", "/x")));
+        assertEquals(Access.AUTHENTICATED, ApiRoutes.access(request("GET", "/api/quizzes", "/1/extra")));
+    }
+
+    @Test
+    void unmatchedAdminPathsRequireAdmin() {
+        assertEquals(Access.ADMIN, ApiRoutes.access(request("GET", "/api/admin", null)));
+        assertEquals(Access.ADMIN, ApiRoutes.access(request("POST", "/api/admin/users", "/abc")));
+    }
+}
@@ -0,0 +1,78 @@
+package com.disasterawareness.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.sql.SQLException;
+
+import javax.servlet.http.HttpServletResponse;
+
+import org.junit.jupiter.api.Test;
+
+import com.disasterawareness.HttpStubs;
+import com.disasterawareness.model.Content;
+
+class JsonArrayWriterTest {
+
+    private static Content content(long id) {
+        Content content = new Content("ENCHENTE", "Título " + id, "Descrição do conteúdo " + id, null);
+        content.setContentId(id);
+        return content;
+    }
+
+    @Test
+    void writesEveryRowAsOneArray() throws Exception {
+        HttpStubs.Response response = new HttpStubs.Response();
+        JsonArrayWriter.write(response.build(), JsonCodec.gson(), Content.class, handler -> {
+            for (long id = 1; id <= 3; id++) {
+                handler.handle(content(id));
+            }
+        });
+
+        String body = response.getBodyAsString();
+        assertTrue(body.startsWith("[{\"contentId\":1"));
+        assertTrue(body.endsWith("}]"));
+        assertEquals(3, JsonCodec.gson().fromJson(body, Content[].class).length);
+    }
+
+    @Test
+    void failureWithinFirstPageLeavesResponseUntouched() {
+        HttpStubs.Response stub = new HttpStubs.Response();
+        HttpServletResponse response = stub.build();
+        SQLException failure = new SQLException("falha");
+
+        SQLException thrown = assertThrows(SQLException.class,
+                () -> JsonArrayWriter.write(response, JsonCodec.gson(), Content.class, handler -> {
+                    handler.handle(content(1));
+                    throw failure;
+                }));
+
+        assertSame(failure, thrown);
+        assertFalse(response.isCommitted());
+        assertEquals(0, stub.getBody().length);
+    }
+
+    @Test
+    void failureAfterCommitDoesNotAppendErrorBody() {
+        HttpStubs.Response stub = new HttpStubs.Response();
+        HttpServletResponse response = stub.build();
+
+        IOException thrown = assertThrows(IOException.class,
+                () -> JsonArrayWriter.write(response, JsonCodec.gson(), Content.class, handler -> {
+                    for (long id = 1; id <= 2_000; id++) {
+                        handler.handle(content(id));
+                    }
+                    throw new SQLException("falha");
+                }));
+
+        assertTrue(thrown.getCause() instanceof SQLException);
+        assertTrue(response.isCommitted());
+        String body = stub.getBodyAsString();
+        assertTrue(body.startsWith("["));
+        assertFalse(body.contains("\"error\""));
+    }
+}
@@ -0,0 +1,171 @@
+package com.disasterawareness.utils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.disasterawareness.model.AnswerChoice;
+import com.disasterawareness.model.Content;
+import com.disasterawareness.model.Kit;
+import com.disasterawareness.model.Question;
+import com.disasterawareness.model.Quiz;
+import com.disasterawareness.model.User;
+import com.google.gson.Gson;
+
+public class JsonCodecBenchmark {
+    private static final int WARMUP_ITERATIONS = 2_000;
+    private static final int MEASURED_ITERATIONS = 5_000;
+
+    @FunctionalInterface
+    private interface Serializer {
+        void write(OutputStream out, Object value) throws IOException;
+    }
+
+    private static class CountingOutputStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : MEASURED_ITERATIONS;
+        Gson reflective = new Gson();
+
+        Serializer stringThenBytes = (out, value) -> out.write(reflective.toJson(value).getBytes(StandardCharsets.UTF_8));
+        Serializer codec = JsonCodec::write;
+
+        List<Object[]> payloads = Arrays.asList(
+                new Object[] { "content x200", contents(200) },
+                new Object[] { "kit x200", kits(200) },
+                new Object[] { "user x500", users(500) },
+                new Object[] { "quiz x20", quizzes(20) });
+
+        System.out.printf("%-14s %-22s %12s %14s %12s%n", "payload", "serializer", "ops/s", "bytes aloc/op", "bytes/op");
+        for (Object[] payload : payloads) {
+            String name = (String) payload[0];
+            Object value = payload[1];
+            run(name, "gson toJson + String", stringThenBytes, value, iterations);
+            run(name, "JsonCodec stream", codec, value, iterations);
+        }
+    }
+
+    private static void run(String payload, String name, Serializer serializer, Object value, int iterations)
+            throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            serializer.write(out, value);
+        }
+
+        out.count = 0;
+        long allocatedBefore = allocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            serializer.write(out, value);
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = allocatedBytes() - allocatedBefore;
+
+        System.out.printf("%-14s %-22s %12.0f %14d %12d%n", payload, name, iterations * 1e9 / elapsed,
+                allocated < 0 ? -1 : allocated / iterations, out.count / iterations);
+    }
+
+    private static long allocatedBytes() {
+        java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) threads).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1;
+    }
+
+    private static List<Content> contents(int count) {
+        StringBuilder description = new StringBuilder();
+        while (description.length() < 4_000) {
+            description.append("Mantenha água potável, lanterna e rádio à pilha em local de fácil acesso. ");
+        }
+        List<Content> contents = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Content content = new Content("TERREMOTO", "Como se preparar #" + i, description.toString(),
+                    "https://www.youtube.com/watch?v=" + i);
+            content.setContentId((long) i);
+            contents.add(content);
+        }
+        return contents;
+    }
+
+    private static List<Kit> kits(int count) {
+        List<Kit> kits = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Kit kit = new Kit();
+            kit.setKitId((long) i);
+            kit.setHouseType(i % 2 == 0 ? "house" : "apartment");
+            kit.setResidents(1 + i % 6);
+            kit.setHasChildren(i % 3 == 0);
+            kit.setHasElderly(i % 5 == 0);
+            kit.setHasPets(i % 7 == 0);
+            kit.setRegion("southeast");
+            kit.setRecommendedItems("[{\"name\":\"Água\",\"description\":\"Estoque de água para ~8,0 litros.\"}]");
+            kit.setUserId((long) (i % 50));
+            kits.add(kit);
+        }
+        return kits;
+    }
+
+    private static List<User> users(int count) {
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            User user = new User("Usuário " + i, "usuario" + i + "@example.com", "hash");
+            user.setUserId((long) i);
+            user.setScore(i * 10);
+            for (long quizId = 1; quizId <= i % 5; quizId++) {
+                user.addCompletedQuiz(quizId);
+            }
+            users.add(user);
+        }
+        return users;
+    }
+
+    private static List<Quiz> quizzes(int count) {
+        List<Quiz> quizzes = new ArrayList<>(count);
+        long id = 0;
+        for (int i = 0; i < count; i++) {
+            Quiz quiz = new Quiz();
+            quiz.setQuizId((long) i);
+            quiz.setTitle("Quiz de preparação #" + i);
+            quiz.setDisasterType("ENCHENTE");
+            List<Question> questions = new ArrayList<>();
+            for (int q = 0; q < 5; q++) {
+                Question question = new Question();
+                question.setQuestionId(++id);
+                question.setQuizId(quiz.getQuizId());
+                question.setQuestionText("O que fazer durante uma enchente? (" + q + ")");
+                question.setPoints(10);
+                List<AnswerChoice> choices = new ArrayList<>();
+                for (int c = 0; c < 4; c++) {
+                    AnswerChoice choice = new AnswerChoice();
+                    choice.setChoiceId(++id);
+                    choice.setQuestionId(question.getQuestionId());
+                    choice.setChoiceText("Alternativa " + c);
+                    choice.setIsCorrect(c == 0);
+                    choices.add(choice);
+                }
+                question.setAnswerChoices(choices);
+                questions.add(question);
+            }
+            quiz.setQuestions(questions);
+            quizzes.add(quiz);
+        }
+        return quizzes;
+    }
+}
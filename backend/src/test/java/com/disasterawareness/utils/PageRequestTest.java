@@ -0,0 +1,39 @@
+package com.disasterawareness.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import com.disasterawareness.HttpStubs;
+
+class PageRequestTest {
+
+    private static HttpStubs.Request get() {
+        return new HttpStubs.Request("GET", "/api/kit", null);
+    }
+
+    @Test
+    void requestWithoutParametersIsUnpaged() {
+        assertNull(PageRequest.from(get().build()));
+    }
+
+    @Test
+    void fetchesOneRowMoreThanTheLimit() {
+        PageRequest page = PageRequest.from(get().parameter("after", "40").build());
+
+        assertEquals(40, page.getAfter());
+        assertEquals(PageRequest.DEFAULT_LIMIT, page.getLimit());
+        assertEquals(PageRequest.DEFAULT_LIMIT + 1, page.getFetchSize());
+    }
+
+    @Test
+    void rejectsInvalidParameters() {
+        assertThrows(IllegalArgumentException.class, () -> PageRequest.from(get().parameter("limit", "0").build()));
+        assertThrows(IllegalArgumentException.class,
+                () -> PageRequest.from(get().parameter("limit", String.valueOf(PageRequest.MAX_LIMIT + 1)).build()));
+        assertThrows(IllegalArgumentException.class, () -> PageRequest.from(get().parameter("after", "-1").build()));
+        assertThrows(IllegalArgumentException.class, () -> PageRequest.from(get().parameter("after", "abc").build()));
+    }
+}
@@ -0,0 +1,73 @@
+package com.disasterawareness.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.disasterawareness.utils.Route.Access;
+
+class RouteTableTest {
+    private static final Route LIST = new Route("GET", "/api/items", Access.PUBLIC);
+    private static final Route GET = new Route("GET", "/api/items/{id:long}", Access.PUBLIC);
+    private static final Route BY_TAG = new Route("GET", "/api/items/{tag}", Access.PUBLIC);
+    private static final Route MINE = new Route("GET", "/api/items/mine", Access.AUTHENTICATED);
+    private static final Route CREATE = new Route("POST", "/api/items", Access.AUTHENTICATED);
+
+    private final RouteTable table = new RouteTable().add(LIST).add(GET).add(BY_TAG).add(MINE).add(CREATE);
+
+    @Test
+    void matchesLiteralRoutesByMethod() {
+        assertTrue(table.match("GET", "/api/items").is(LIST));
+        assertTrue(table.match("POST", "/api/items").is(CREATE));
+        assertNull(table.match("DELETE", "/api/items"));
+    }
+
+    @Test
+    void literalSegmentWinsOverParameters() {
+        assertTrue(table.match("GET", "/api/items/mine").is(MINE));
+    }
+
+    @Test
+    void numericSegmentBindsLongParameter() {
+        RouteMatch match = table.match("GET", "/api/items/42");
+        assertTrue(match.is(GET));
+        assertEquals(42L, match.getLong("id"));
+    }
+
+    @Test
+    void nonNumericSegmentFallsBackToStringParameter() {
+        RouteMatch match = table.match("GET", "/api/items/abc");
+        assertTrue(match.is(BY_TAG));
+        assertEquals("abc", match.getString("tag"));
+
+        assertTrue(table.match("GET", "/api/items/99999999999999999999").is(BY_TAG));
+    }
+
+    @Test
+    void ignoresEmptySegments() {
+        assertTrue(table.match("GET", "/api/items/").is(LIST));
+        assertTrue(table.match("POST", "/api/items/").is(CREATE));
+    }
+
+    @Test
+    void returnsNullForUnknownPaths() {
+        assertNull(table.match("GET", "/api/items/1/extra"));
+        assertNull(table.match("POST", "/api/items/x"));
+        assertNull(table.match("GET", "/api/other"));
+        assertNull(table.match("GET", null));
+    }
+
+    @Test
+    void rejectsDuplicateRoutes() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new RouteTable().add(LIST).add(new Route("GET", "/api/items", Access.ADMIN)));
+    }
+
+    @Test
+    void rejectsUnknownParameterType() {
+        assertThrows(IllegalArgumentException.class, () -> new RouteTable().add(new Route("GET", "/api/{id:uuid}", Access.PUBLIC)));
+    }
+}
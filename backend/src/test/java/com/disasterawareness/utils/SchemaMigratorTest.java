@@ -0,0 +1,120 @@
+package com.disasterawareness.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SchemaMigratorTest {
+    private static int databases;
+
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        String url = "jdbc:h2:mem:migrator" + (++databases)
+                + ";MODE=Oracle;DB_CLOSE_DELAY=-1;DEFAULT_NULL_ORDERING=HIGH";
+        dataSource = (DataSource) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { DataSource.class }, (proxy, method, args) -> {
+                    if (method.getName().equals("getConnection")) {
+                        return DriverManager.getConnection(url, "sa", "");
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        new EmbeddedH2Backend().initialize(dataSource);
+    }
+
+    private int queryInt(String sql) throws SQLException {
+        try (Connection conn = dataSource.getConnection();
+                Statement stmt = conn.createStatement();
+                ResultSet rs = stmt.executeQuery(sql)) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+
+    private void execute(String sql) throws SQLException {
+        try (Connection conn = dataSource.getConnection(); Statement stmt = conn.createStatement()) {
+            stmt.execute(sql);
+        }
+    }
+
+    @Test
+    void appliesEveryMigrationOnce() throws Exception {
+        assertEquals(4, new SchemaMigrator(dataSource).migrate());
+        assertEquals(0, new SchemaMigrator(dataSource).migrate());
+        assertEquals(4, queryInt("SELECT MAX(version) FROM schema_version"));
+        assertEquals(0, queryInt("SELECT locked FROM schema_migration_lock WHERE id = 1"));
+    }
+
+    @Test
+    void concurrentNodesApplyEachMigrationOnce() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(3);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                Callable<Integer> node = () -> new SchemaMigrator(dataSource).migrate();
+                results.add(pool.submit(node));
+            }
+            int applied = 0;
+            for (Future<Integer> result : results) {
+                applied += result.get();
+            }
+            assertEquals(4, applied);
+        } finally {
+            pool.shutdownNow();
+        }
+        assertEquals(4, queryInt("SELECT COUNT(*) FROM schema_version"));
+    }
+
+    @Test
+    void resumesHalfAppliedMigration() throws Exception {
+        new SchemaMigrator(dataSource).migrate();
+        execute("DROP INDEX idx_revoked_tokens_expires_at");
+        execute("DELETE FROM schema_version WHERE version = 4");
+        execute("UPDATE schema_migration_lock SET version = 4, step = 1 WHERE id = 1");
+
+        assertEquals(1, new SchemaMigrator(dataSource).migrate());
+        assertEquals(4, queryInt("SELECT MAX(version) FROM schema_version"));
+        assertEquals(1, queryInt("SELECT COUNT(*) FROM information_schema.indexes "
+                + "WHERE index_name = 'IDX_REVOKED_TOKENS_EXPIRES_AT'"));
+        assertEquals(0, queryInt("SELECT NVL(step, 0) FROM schema_migration_lock WHERE id = 1"));
+    }
+
+    @Test
+    void failedStatementKeepsProgressAndReleasesLock() throws Exception {
+        new SchemaMigrator(dataSource).migrate();
+        execute("DELETE FROM schema_version WHERE version = 4");
+
+        SQLException e = assertThrows(SQLException.class, () -> new SchemaMigrator(dataSource).migrate());
+        assertTrue(e.getMessage().contains("V4__create_revoked_tokens.sql"));
+        assertEquals(0, queryInt("SELECT locked FROM schema_migration_lock WHERE id = 1"));
+        assertEquals(3, queryInt("SELECT MAX(version) FROM schema_version"));
+    }
+
+    @Test
+    void waitsForLockHeldByAnotherNode() throws Exception {
+        new SchemaMigrator(dataSource).migrate();
+        execute("UPDATE schema_migration_lock SET locked = 1, locked_at = CURRENT_TIMESTAMP WHERE id = 1");
+
+        SQLException e = assertThrows(SQLException.class, () -> new SchemaMigrator(dataSource, 200).migrate());
+        assertTrue(e.getMessage().contains("bloqueio"));
+    }
+}
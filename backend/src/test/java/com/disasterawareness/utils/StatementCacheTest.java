@@ -0,0 +1,67 @@
+package com.disasterawareness.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class StatementCacheTest {
+    private static final String SQL = "SELECT ? FROM dual";
+
+    private Connection conn;
+    private StatementCache cache;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        conn = DriverManager.getConnection("jdbc:h2:mem:statement-cache;MODE=Oracle", "sa", "");
+        cache = new StatementCache(2);
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        cache.clear();
+        conn.close();
+    }
+
+    @Test
+    void checkoutResetsStatementSettings() throws SQLException {
+        int defaultFetchSize;
+        try (PreparedStatement fresh = conn.prepareStatement(SQL)) {
+            defaultFetchSize = fresh.getFetchSize();
+        }
+
+        PreparedStatement physical = conn.prepareStatement(SQL);
+        PreparedStatement borrowed = cache.wrap(SQL, physical, conn);
+        borrowed.setFetchSize(500);
+        borrowed.setMaxRows(1);
+        borrowed.setQueryTimeout(30);
+        borrowed.setString(1, "x");
+        borrowed.close();
+
+        PreparedStatement reused = cache.take(SQL);
+        assertSame(physical, reused);
+        assertEquals(defaultFetchSize, reused.getFetchSize());
+        assertEquals(0, reused.getMaxRows());
+        assertEquals(0, reused.getQueryTimeout());
+        assertThrows(SQLException.class, reused::executeQuery);
+    }
+
+    @Test
+    void closedStatementIsNotHandedOut() throws SQLException {
+        PreparedStatement physical = conn.prepareStatement(SQL);
+        cache.wrap(SQL, physical, conn).close();
+        physical.close();
+
+        assertNull(cache.take(SQL));
+        assertNull(cache.take(SQL));
+    }
+}
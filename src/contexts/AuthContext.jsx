@@ -1,4 +1,5 @@
 import { createContext, useContext, useState, useEffect } from "react";
+import { auth } from "../services/api";
 
 const AuthContext = createContext(null);
 
@@ -27,6 +28,10 @@ export const AuthProvider = ({ children }) => {
   };
 
   const logout = () => {
+    const token = localStorage.getItem("token");
+    if (token) {
+      auth.logout(token).catch(() => {});
+    }
     setUser(null);
     setIsAdmin(false);
     localStorage.removeItem("user");
@@ -70,6 +70,10 @@ export const auth = {
     }
   },
   register: (userData) => api.post("/register", userData),
+  logout: (token) =>
+    api.post("/logout", null, {
+      headers: { Authorization: `Bearer ${token}` },
+    }),
   getUserData: async () => {
     try {
       const storedUser = localStorage.getItem("user");
@@ -79,10 +83,10 @@ export const auth = {
 
       const userData = JSON.parse(storedUser);
 
-      const leaderboardResponse = await api.get("/leaderboard");
-      const userScore = leaderboardResponse.data.find(
-        (item) => item.userId === userData.id || item.userId === userData.userId
-      );
+      const positionResponse = await api.get("/leaderboard/me", {
+        params: { window: 0 },
+      });
+      const userScore = positionResponse.data.user;
 
       if (userScore) {
         const updatedUserData = {
@@ -227,6 +231,8 @@ export const quiz = {
 
 export const leaderboard = {
   get: () => api.get("/leaderboard"),
+  getMine: (neighbors = 5) =>
+    api.get("/leaderboard/me", { params: { window: neighbors } }),
 };
 
 export const admin = {